@@ -0,0 +1,57 @@
+package algorithms.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.lang.module.ModuleFinder;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point of benchmarks.jar: accepts the usual JMH command line and always adds
+ * the gc profiler, plus perfasm when Linux perf is installed.
+ * Forks get --add-modules jdk.incubator.vector only when this JDK has the module and the
+ * main artifact was built with the vector profile; -Dbenchmarks.vector=false skips it.
+ *
+ * Example: java -jar benchmarks/target/benchmarks.jar KadaneBenchmark -p size=1000000
+ */
+public class BenchmarkMain {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNELS = "algorithms/array/VectorReductionKernels.class";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (perfAvailable()) {
+            options.addProfiler("perfasm");
+        }
+        // Forks on another JVM (-jvm) may not have the module, so they keep the command line as is
+        if (!commandLine.getJvm().hasValue() && vectorAvailable()) {
+            // This builder's value replaces the command line's, so the user's arguments are kept first
+            List<String> prepend = new ArrayList<>(commandLine.getJvmArgsPrepend().orElse(new ArrayList<>()));
+            prepend.add("--add-modules");
+            prepend.add(VECTOR_MODULE);
+            options.jvmArgsPrepend(prepend.toArray(new String[0]));
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static boolean vectorAvailable() {
+        return Boolean.parseBoolean(System.getProperty("benchmarks.vector", "true"))
+                && ModuleFinder.ofSystem().find(VECTOR_MODULE).isPresent()
+                && BenchmarkMain.class.getClassLoader().getResource(VECTOR_KERNELS) != null;
+    }
+
+    private static boolean perfAvailable() {
+        return System.getProperty("os.name").toLowerCase().contains("linux")
+                && (Files.isExecutable(Paths.get("/usr/bin/perf")) || Files.isExecutable(Paths.get("/usr/local/bin/perf")));
+    }
+}
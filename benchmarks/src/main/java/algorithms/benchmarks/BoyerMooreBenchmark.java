@@ -0,0 +1,58 @@
+package algorithms.benchmarks;
+
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.metrics.InstrumentationLevel;
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class BoyerMooreBenchmark {
+
+    @Param({"OFF", "FULL"})
+    public InstrumentationLevel instrumentation;
+
+    private BoyerMooreMajorityVote bm;
+    private BoyerMooreMajorityVote.Majority majority;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bm = new BoyerMooreMajorityVote(instrumentation);
+        majority = new BoyerMooreMajorityVote.Majority();
+    }
+
+    @Benchmark
+    public Integer findMajority(InputState input) {
+        return bm.findMajority(input.array);
+    }
+
+    @Benchmark
+    public boolean findMajorityPrimitive(InputState input) {
+        return bm.findMajority(input.array, majority);
+    }
+
+    @Benchmark
+    public Integer findMajorityParallel(InputState input) {
+        return bm.findMajorityParallel(input.array);
+    }
+
+    @Benchmark
+    public List<Integer> findMajorityElements(InputState input) {
+        return bm.findMajorityElements(input.array);
+    }
+
+    @Benchmark
+    public List<Integer> findMajorityElementsParallel(InputState input) {
+        return bm.findMajorityElementsParallel(input.array);
+    }
+
+    @Benchmark
+    public List<Integer> findMajorityElementsK10(InputState input) {
+        return bm.findMajorityElements(input.array, 10);
+    }
+}
@@ -0,0 +1,26 @@
+package algorithms.benchmarks;
+
+import algorithms.workload.WorkloadGenerator;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark input shared by the suites: one seeded array per (size, distribution), built once per trial.
+ * The defaults are a quick cross-section; the README lists the -p overrides for the full sweep.
+ */
+@State(Scope.Benchmark)
+public class InputState {
+    private static final long SEED = 42;
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"UNIFORM", "MAJORITY", "ALL_POSITIVE"})
+    public WorkloadGenerator.Distribution distribution;
+
+    public int[] array;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        array = new WorkloadGenerator(SEED).generate(distribution, size);
+    }
+}
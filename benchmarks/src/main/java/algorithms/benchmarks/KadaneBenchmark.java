@@ -0,0 +1,53 @@
+package algorithms.benchmarks;
+
+import algorithms.array.KadaneAlgorithm;
+import algorithms.metrics.InstrumentationLevel;
+import org.openjdk.jmh.annotations.*;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class KadaneBenchmark {
+
+    @Param({"OFF", "FULL"})
+    public InstrumentationLevel instrumentation;
+
+    private KadaneAlgorithm kadane;
+    private KadaneAlgorithm.Bounds bounds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        kadane = new KadaneAlgorithm(instrumentation);
+        bounds = new KadaneAlgorithm.Bounds();
+    }
+
+    @Benchmark
+    public KadaneAlgorithm.Result findMaximumSubarray(InputState input) {
+        return kadane.findMaximumSubarray(input.array);
+    }
+
+    @Benchmark
+    public int findMaximumSubarrayBounds(InputState input) {
+        kadane.findMaximumSubarray(input.array, bounds);
+        return bounds.getMaxSum();
+    }
+
+    @Benchmark
+    public KadaneAlgorithm.Result findMaximumSubarrayParallel(InputState input) {
+        return kadane.findMaximumSubarrayParallel(input.array);
+    }
+
+    @Benchmark
+    public KadaneAlgorithm.Result findMaximumCircularSubarray(InputState input) {
+        return kadane.findMaximumCircularSubarray(input.array);
+    }
+
+    @Benchmark
+    public KadaneAlgorithm.Result findMaximumSubarrayOptimized(InputState input) {
+        return kadane.findMaximumSubarrayOptimized(input.array);
+    }
+}
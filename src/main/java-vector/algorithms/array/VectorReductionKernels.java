@@ -0,0 +1,111 @@
+package algorithms.array;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API version of {@link ReductionKernels}, using the widest species the CPU
+ * supports (256-bit on AVX2, 512-bit on AVX-512). Tails fall back to scalar loops.
+ * Compiled only by the "vector" Maven profile and loaded reflectively.
+ */
+final class VectorReductionKernels extends ReductionKernels {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    /** Same bit size as SPECIES, so each int vector widens into two long vectors */
+    private static final VectorSpecies<Long> LONG_SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public int countEquals(int[] array, int from, int to, int value) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        IntVector counts = IntVector.zero(SPECIES);
+        IntVector ones = IntVector.broadcast(SPECIES, 1);
+        for (; i < upper; i += SPECIES.length()) {
+            VectorMask<Integer> equal = IntVector.fromArray(SPECIES, array, i).eq(value);
+            counts = counts.add(ones, equal);
+        }
+        int count = counts.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            if (array[i] == value) count++;
+        }
+        return count;
+    }
+
+    @Override
+    public long countEqualsPair(int[] array, int from, int to, int first, int second) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        IntVector counts1 = IntVector.zero(SPECIES);
+        IntVector counts2 = IntVector.zero(SPECIES);
+        IntVector ones = IntVector.broadcast(SPECIES, 1);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector values = IntVector.fromArray(SPECIES, array, i);
+            counts1 = counts1.add(ones, values.eq(first));
+            counts2 = counts2.add(ones, values.eq(second));
+        }
+        int count1 = counts1.reduceLanes(VectorOperators.ADD);
+        int count2 = counts2.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            int num = array[i];
+            if (num == first) count1++;
+            if (num == second) count2++;
+        }
+        return ((long) count1 << 32) | count2;
+    }
+
+    @Override
+    public long sum(int[] array, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        LongVector sums = LongVector.zero(LONG_SPECIES);
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector values = IntVector.fromArray(SPECIES, array, i);
+            sums = sums.add((LongVector) values.convertShape(VectorOperators.I2L, LONG_SPECIES, 0))
+                    .add((LongVector) values.convertShape(VectorOperators.I2L, LONG_SPECIES, 1));
+        }
+        long total = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < to; i++) {
+            total += array[i];
+        }
+        return total;
+    }
+
+    @Override
+    public int firstNegative(int[] array, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            VectorMask<Integer> negative = IntVector.fromArray(SPECIES, array, i).lt(0);
+            if (negative.anyTrue()) {
+                return i + negative.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (array[i] < 0) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int firstNonPositive(int[] array, int from, int to) {
+        int i = from;
+        int upper = from + SPECIES.loopBound(to - from);
+        for (; i < upper; i += SPECIES.length()) {
+            VectorMask<Integer> nonPositive = IntVector.fromArray(SPECIES, array, i).compare(VectorOperators.LE, 0);
+            if (nonPositive.anyTrue()) {
+                return i + nonPositive.firstTrue();
+            }
+        }
+        for (; i < to; i++) {
+            if (array[i] <= 0) return i;
+        }
+        return -1;
+    }
+}
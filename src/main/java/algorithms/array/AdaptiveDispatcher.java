@@ -0,0 +1,216 @@
+package algorithms.array;
+
+import algorithms.metrics.InstrumentationLevel;
+import algorithms.metrics.PerformanceTracker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Picks the sequential, parallel or vectorized engine per call from the input size,
+ * the pool's parallelism, a small sample of the input and a {@link DispatchProfile}.
+ * The last decision made on the calling thread is available from {@link #getLastDecision()},
+ * and the engine is also reported to the trackers (and so to JFR).
+ */
+public class AdaptiveDispatcher {
+    /** Elements inspected, evenly spaced, before choosing an engine */
+    public static final int SAMPLE_SIZE = 32;
+
+    public enum Engine {
+        SEQUENTIAL, PARALLEL, VECTORIZED;
+
+        private final String label = name().toLowerCase(Locale.ROOT);
+
+        String label() {
+            return label;
+        }
+    }
+
+    public static final class Decision {
+        private final String operation;
+        private final Engine engine;
+        private final int length;
+        private final String reason;
+
+        Decision(String operation, Engine engine, int length, String reason) {
+            this.operation = operation;
+            this.engine = engine;
+            this.length = length;
+            this.reason = reason;
+        }
+
+        public String getOperation() { return operation; }
+        public Engine getEngine() { return engine; }
+        public int getLength() { return length; }
+        public String getReason() { return reason; }
+
+        @Override
+        public String toString() {
+            return String.format("%s(n=%d) -> %s: %s", operation, length, engine, reason);
+        }
+    }
+
+    private final DispatchProfile profile;
+    private final ForkJoinPool pool;
+    private final KadaneAlgorithm kadane;
+    private final BoyerMooreMajorityVote boyerMoore;
+    private final ReductionKernels kernels = ReductionKernels.get();
+    private final ThreadLocal<LastCall> lastCall = ThreadLocal.withInitial(LastCall::new);
+
+    // Reasons depend only on the profile, pool and kernels, so each outcome is built once
+    private final Decision kadaneEmpty;
+    private final Decision kadaneVectorized;
+    private final Decision kadaneParallel;
+    private final Decision kadaneSequential;
+    private final Decision majorityParallel;
+    private final Decision majoritySequential;
+    private final Decision elementsParallel;
+    private final Decision elementsSequential;
+
+    /** Outcome of the calling thread's last call; the length is kept apart so dispatching allocates nothing */
+    private static final class LastCall {
+        Decision outcome;
+        int length;
+    }
+
+    public AdaptiveDispatcher() {
+        this(DispatchProfile.defaults(ForkJoinPool.commonPool()), ForkJoinPool.commonPool(), InstrumentationLevel.FULL);
+    }
+
+    public AdaptiveDispatcher(DispatchProfile profile) {
+        this(profile, ForkJoinPool.commonPool(), InstrumentationLevel.FULL);
+    }
+
+    public AdaptiveDispatcher(DispatchProfile profile, ForkJoinPool pool, InstrumentationLevel level) {
+        this.profile = profile;
+        this.pool = pool;
+        this.kadane = new KadaneAlgorithm(level);
+        this.boyerMoore = new BoyerMooreMajorityVote(level);
+
+        String cores = " on " + pool.getParallelism() + " cores";
+        this.kadaneEmpty = new Decision("findMaximumSubarray", Engine.SEQUENTIAL, 0, "empty input");
+        this.kadaneVectorized = new Decision("findMaximumSubarray", Engine.VECTORIZED, 0,
+                "all elements positive (" + kernels.name() + ")");
+        this.kadaneParallel = new Decision("findMaximumSubarray", Engine.PARALLEL, 0,
+                "n >= " + profile.getKadaneParallelThreshold() + cores);
+        this.kadaneSequential = new Decision("findMaximumSubarray", Engine.SEQUENTIAL, 0,
+                "n < " + describe(profile.getKadaneParallelThreshold()));
+        this.majorityParallel = new Decision("findMajority", Engine.PARALLEL, 0,
+                "n >= " + profile.getMajorityParallelThreshold() + cores);
+        this.majoritySequential = new Decision("findMajority", Engine.SEQUENTIAL, 0,
+                "n < " + describe(profile.getMajorityParallelThreshold()));
+        this.elementsParallel = new Decision("findMajorityElements", Engine.PARALLEL, 0,
+                majorityParallel.getReason());
+        this.elementsSequential = new Decision("findMajorityElements", Engine.SEQUENTIAL, 0,
+                majoritySequential.getReason());
+    }
+
+    /**
+     * Same result as {@link KadaneAlgorithm#findMaximumSubarray(int[])}.
+     * When the sample is all positive the vectorized engine checks the whole array for a
+     * non-positive element; if there is none the answer is the whole array and its sum.
+     * The sample and the scan are part of the tracked call, which is relabeled on fallback.
+     * @throws ArithmeticException if the vectorized or parallel best sum does not fit in an int
+     */
+    public KadaneAlgorithm.Result findMaximumSubarray(int[] array) {
+        int n = array == null ? 0 : array.length;
+        if (n == 0) {
+            return decide(kadaneEmpty, n, kadane.findMaximumSubarray(array));
+        }
+
+        PerformanceTracker tracker = kadane.getTracker();
+        tracker.beginCall("findMaximumSubarray", n, Engine.VECTORIZED.label());
+        int nonPositive = samplePositive(array) ? kernels.firstNonPositive(array, 0, n) : 0;
+        if (nonPositive < 0) {
+            // Same policy as the parallel engine: the long sum is reported, never wrapped
+            KadaneAlgorithm.Result result = new KadaneAlgorithm.Result(
+                    Math.toIntExact(kernels.sum(array, 0, n)), 0, n - 1, array);
+            tracker.recordArrayAccess(2L * n);
+            tracker.recordComparisons(n);
+            tracker.stopTimer();
+            return decide(kadaneVectorized, n, result);
+        }
+
+        Decision outcome;
+        KadaneAlgorithm.Result result;
+        if (n >= profile.getKadaneParallelThreshold()) {
+            tracker.setEngine(Engine.PARALLEL.label());
+            outcome = kadaneParallel;
+            result = kadane.parallelScan(array, pool, KadaneAlgorithm.chunkSizeFor(array, pool));
+        } else {
+            tracker.setEngine(Engine.SEQUENTIAL.label());
+            outcome = kadaneSequential;
+            result = kadane.sequentialScan(array);
+        }
+        tracker.stopTimer();
+        return decide(outcome, n, result);
+    }
+
+    /** Same result as {@link BoyerMooreMajorityVote#findMajority(int[])} */
+    public Integer findMajority(int[] array) {
+        int n = array == null ? 0 : array.length;
+        if (n >= profile.getMajorityParallelThreshold()) {
+            return decide(majorityParallel, n, boyerMoore.findMajorityParallel(array, pool, 0,
+                    BoyerMooreMajorityVote.chunkSizeFor(array, pool)));
+        }
+        return decide(majoritySequential, n, boyerMoore.findMajority(array));
+    }
+
+    /**
+     * Same elements as {@link BoyerMooreMajorityVote#findMajorityElements(int[])},
+     * always in ascending order so the result does not depend on the engine.
+     */
+    public List<Integer> findMajorityElements(int[] array) {
+        int n = array == null ? 0 : array.length;
+        if (n >= profile.getMajorityParallelThreshold()) {
+            return decide(elementsParallel, n, boyerMoore.findMajorityElementsParallel(array, pool, 0,
+                    BoyerMooreMajorityVote.chunkSizeFor(array, pool)));
+        }
+        List<Integer> result = new ArrayList<>(boyerMoore.findMajorityElements(array));
+        Collections.sort(result);
+        return decide(elementsSequential, n, result);
+    }
+
+    private boolean samplePositive(int[] array) {
+        int n = array.length;
+        int step = Math.max(1, n / SAMPLE_SIZE);
+        for (int i = 0; i < n; i += step) {
+            if (array[i] <= 0) return false;
+        }
+        return array[n - 1] > 0;
+    }
+
+    private <T> T decide(Decision outcome, int length, T result) {
+        LastCall last = lastCall.get();
+        last.outcome = outcome;
+        last.length = length;
+        return result;
+    }
+
+    private static String describe(int threshold) {
+        return threshold == DispatchProfile.NEVER ? "parallel threshold (never)" : Integer.toString(threshold);
+    }
+
+    /** Decision behind the calling thread's most recent call, or null */
+    public Decision getLastDecision() {
+        LastCall last = lastCall.get();
+        Decision outcome = last.outcome;
+        return outcome == null ? null
+                : new Decision(outcome.operation, outcome.engine, last.length, outcome.reason);
+    }
+
+    public DispatchProfile getProfile() {
+        return profile;
+    }
+
+    public KadaneAlgorithm getKadane() {
+        return kadane;
+    }
+
+    public BoyerMooreMajorityVote getBoyerMoore() {
+        return boyerMoore;
+    }
+}
@@ -0,0 +1,134 @@
+package algorithms.array;
+
+/**
+ * Maximum subarray whose length is between minLength and maxLength, over an unbounded
+ * feed of ints, in amortized O(1) per element.
+ * For each end, the best start is the minimum prefix sum among the allowed start positions.
+ * That minimum comes from a monotonic deque of (prefix sum, position) kept in primitive ring
+ * buffers. Prefix sums from the last minLength positions wait in a delay ring until they
+ * become valid starts. Memory is O(minLength + deque size), where the deque never holds
+ * more than maxLength - minLength + 1 entries.
+ * Ties go to the earlier end and then the later start, like
+ * {@link KadaneAlgorithm#findMaximumSubarray(int[])}.
+ */
+public class BoundedLengthKadane {
+    private static final int INITIAL_DEQUE_CAPACITY = 16;
+
+    private final int minLength;
+    private final int maxLength;
+    private final long[] delay;
+
+    private long[] dequeSums;
+    private long[] dequePositions;
+    private int head;
+    private int size;
+
+    private long position;
+    private long prefix;
+    private boolean found;
+    private long bestSum;
+    private long bestStart = -1;
+    private long bestEnd = -1;
+
+    /**
+     * @param maxLength longest allowed subarray; Integer.MAX_VALUE for no upper bound
+     */
+    public BoundedLengthKadane(int minLength, int maxLength) {
+        if (minLength < 1 || maxLength < minLength) {
+            throw new IllegalArgumentException("Need 1 <= minLength <= maxLength");
+        }
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.delay = new long[minLength];
+        int capacity = (int) Math.min(INITIAL_DEQUE_CAPACITY, (long) maxLength - minLength + 1);
+        this.dequeSums = new long[capacity];
+        this.dequePositions = new long[capacity];
+    }
+
+    public void accept(int value) {
+        // delay[i % minLength] holds the prefix sum before element i until i becomes a valid start
+        delay[(int) (position % minLength)] = prefix;
+        prefix += value;
+        position++;
+
+        // Expire before pushing so the deque never exceeds maxLength - minLength + 1 entries
+        long earliest = position - maxLength;
+        while (size > 0 && dequePositions[head] < earliest) {
+            head = next(head);
+            size--;
+        }
+        long startPosition = position - minLength;
+        if (startPosition >= 0) {
+            pushBack(delay[(int) (startPosition % minLength)], startPosition);
+        }
+        if (size > 0) {
+            long sum = prefix - dequeSums[head];
+            if (!found || sum > bestSum) {
+                found = true;
+                bestSum = sum;
+                bestStart = dequePositions[head];
+                bestEnd = position - 1;
+            }
+        }
+    }
+
+    /** Feeds chunk[from, to) */
+    public void accept(int[] chunk, int from, int to) {
+        if (from < 0 || to > chunk.length || from > to) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d) out of bounds for length %d", from, to, chunk.length));
+        }
+        for (int i = from; i < to; i++) {
+            accept(chunk[i]);
+        }
+    }
+
+    public void accept(int[] chunk) {
+        accept(chunk, 0, chunk.length);
+    }
+
+    private void pushBack(long sum, long startPosition) {
+        // Later starts win ties, so equal sums are popped as well
+        while (size > 0 && dequeSums[index(size - 1)] >= sum) {
+            size--;
+        }
+        if (size == dequeSums.length) {
+            grow();
+        }
+        int tail = index(size);
+        dequeSums[tail] = sum;
+        dequePositions[tail] = startPosition;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = (int) Math.min(2L * dequeSums.length, (long) maxLength - minLength + 1);
+        long[] sums = new long[capacity];
+        long[] positions = new long[capacity];
+        for (int i = 0; i < size; i++) {
+            sums[i] = dequeSums[index(i)];
+            positions[i] = dequePositions[index(i)];
+        }
+        dequeSums = sums;
+        dequePositions = positions;
+        head = 0;
+    }
+
+    private int index(int offset) {
+        int i = head + offset;
+        return i >= dequeSums.length ? i - dequeSums.length : i;
+    }
+
+    private int next(int i) {
+        return i + 1 == dequeSums.length ? 0 : i + 1;
+    }
+
+    /** False until at least minLength elements were seen */
+    public boolean hasResult() { return found; }
+    public long getCount() { return position; }
+    public long getBestSum() { return bestSum; }
+    public long getBestStart() { return bestStart; }
+    public long getBestEnd() { return bestEnd; }
+    public int getMinLength() { return minLength; }
+    public int getMaxLength() { return maxLength; }
+}
@@ -1,15 +1,56 @@
 package algorithms.array;
+import algorithms.metrics.InstrumentationLevel;
 import algorithms.metrics.PerformanceTracker;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Boyer-Moore Majority Vote Algorithm implementation
  * Finds the majority element (appearing more than n/2 times) in O(n) time and O(1) space
  */
 public class BoyerMooreMajorityVote {
+    /** Arrays shorter than this are scanned sequentially by the parallel entry points */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+    private static final int CHUNKS_PER_THREAD = 4;
+
     private final PerformanceTracker tracker;
 
+    /**
+     * Reusable majority result: a primitive value plus a presence flag, no boxing.
+     */
+    public static final class Majority {
+        private boolean present;
+        private int value;
+
+        void set(boolean present, int value) {
+            this.present = present;
+            this.value = value;
+        }
+
+        public boolean isPresent() { return present; }
+
+        /**
+         * @throws IllegalStateException if there is no majority element
+         */
+        public int getValue() {
+            if (!present) {
+                throw new IllegalStateException("No majority element");
+            }
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return present ? "Majority: " + value : "Majority: None";
+        }
+    }
+
     public BoyerMooreMajorityVote() {
-        this.tracker = new PerformanceTracker("BoyerMooreMajorityVote");
+        this(InstrumentationLevel.FULL);
+    }
+
+    public BoyerMooreMajorityVote(InstrumentationLevel level) {
+        this.tracker = new PerformanceTracker("BoyerMooreMajorityVote", level);
     }
 
     /**
@@ -18,19 +59,35 @@ public class BoyerMooreMajorityVote {
      * @return majority element if exists, null otherwise
      */
     public Integer findMajority(int[] array) {
-        tracker.startTimer();
-        tracker.resetCounters();
+        tracker.beginCall("findMajority", array == null ? 0 : array.length, "sequential");
+        Majority majority = new Majority();
+        Integer result = vote(array, majority) ? majority.value : null;
+        tracker.stopTimer();
+        return result;
+    }
+
+    /**
+     * Allocation-free variant: writes the result into out instead of boxing it.
+     * @return true if a majority element exists
+     */
+    public boolean findMajority(int[] array, Majority out) {
+        tracker.beginCall("findMajority", array == null ? 0 : array.length, "sequential");
+        boolean found = vote(array, out);
+        tracker.stopTimer();
+        return found;
+    }
 
+    private boolean vote(int[] array, Majority out) {
         // Edge cases
         if (array == null || array.length == 0) {
-            tracker.stopTimer();
-            return null;
+            out.set(false, 0);
+            return false;
         }
 
         if (array.length == 1) {
             tracker.recordArrayAccess(1);
-            tracker.stopTimer();
-            return array[0];
+            out.set(true, array[0]);
+            return true;
         }
 
         // Phase 1: Find candidate
@@ -39,16 +96,15 @@ public class BoyerMooreMajorityVote {
         // Phase 2: Verify candidate
         boolean isMajority = verifyCandidate(array, candidate);
 
-        tracker.stopTimer();
-        return isMajority ? candidate : null;
+        out.set(isMajority, candidate);
+        return isMajority;
     }
 
     /**
      * Extended version to find all elements appearing more than n/3 times
      */
     public java.util.List<Integer> findMajorityElements(int[] array) {
-        tracker.startTimer();
-        tracker.resetCounters();
+        tracker.beginCall("findMajorityElements", array == null ? 0 : array.length, "sequential");
 
         java.util.List<Integer> result = new java.util.ArrayList<>();
         if (array == null || array.length == 0) {
@@ -61,9 +117,6 @@ public class BoyerMooreMajorityVote {
         int count1 = 0, count2 = 0;
 
         for (int num : array) {
-            tracker.recordArrayAccess(1);
-            tracker.recordComparison();
-
             if (num == candidate1) {
                 count1++;
             } else if (num == candidate2) {
@@ -79,17 +132,15 @@ public class BoyerMooreMajorityVote {
                 count2--;
             }
         }
+        tracker.recordArrayAccess(array.length);
+        tracker.recordComparisons(array.length);
 
-        // Verify candidates
-        count1 = 0;
-        count2 = 0;
+        // Verify candidates (vectorized when the Vector API is available)
         int n = array.length;
-
-        for (int num : array) {
-            tracker.recordArrayAccess(1);
-            if (num == candidate1) count1++;
-            if (num == candidate2) count2++;
-        }
+        long counts = ReductionKernels.get().countEqualsPair(array, 0, n, candidate1, candidate2);
+        count1 = (int) (counts >>> 32);
+        count2 = (int) counts;
+        tracker.recordArrayAccess(n);
 
         if (count1 > n / 3) result.add(candidate1);
         if (count2 > n / 3 && candidate1 != candidate2) result.add(candidate2);
@@ -98,14 +149,111 @@ public class BoyerMooreMajorityVote {
         return result;
     }
 
+    /**
+     * Generalized version: all elements appearing more than n/k times, in ascending order.
+     * Uses Misra-Gries with k-1 primitive counters, see {@link MisraGriesHeavyHitters}.
+     */
+    public java.util.List<Integer> findMajorityElements(int[] array, int k) {
+        MisraGriesHeavyHitters heavyHitters = new MisraGriesHeavyHitters(k);
+        tracker.beginCall("findMajorityElementsOverK", array == null ? 0 : array.length, "misra-gries");
+
+        java.util.List<Integer> result = heavyHitters.findHeavyHitters(array);
+        if (array != null) {
+            tracker.recordArrayAccess(2L * array.length);
+            tracker.recordComparisons(2L * array.length);
+        }
+
+        tracker.stopTimer();
+        return result;
+    }
+
+    /**
+     * Parallel majority search on the common ForkJoinPool.
+     * Returns the same value as {@link #findMajority(int[])}.
+     */
+    public Integer findMajorityParallel(int[] array) {
+        return findMajorityParallel(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel majority search: per-chunk (candidate, count) pairs are merged,
+     * then the candidate is verified with a parallel count.
+     */
+    public Integer findMajorityParallel(int[] array, ForkJoinPool pool) {
+        return findMajorityParallel(array, pool, PARALLEL_THRESHOLD, chunkSizeFor(array, pool));
+    }
+
+    Integer findMajorityParallel(int[] array, ForkJoinPool pool, int threshold, int chunkSize) {
+        if (array == null || array.length < threshold) {
+            return findMajority(array);
+        }
+
+        tracker.beginCall("findMajorityParallel", array.length, "parallel");
+
+        long packed = pool.invoke(new MajorityVoteTasks.CandidateTask(array, 0, array.length, chunkSize));
+        int candidate = MajorityVoteTasks.candidateOf(packed);
+        long[] counts = pool.invoke(new MajorityVoteTasks.CountTask(
+                array, new int[]{candidate}, 0, array.length, chunkSize));
+
+        tracker.recordArrayAccess(2L * array.length);
+        tracker.recordComparisons(2L * array.length);
+        tracker.stopTimer();
+        return counts[0] > array.length / 2 ? candidate : null;
+    }
+
+    /**
+     * Parallel n/3 search on the common ForkJoinPool.
+     * Returns the same elements as {@link #findMajorityElements(int[])}, in ascending order.
+     */
+    public java.util.List<Integer> findMajorityElementsParallel(int[] array) {
+        return findMajorityElementsParallel(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel n/3 search: per-chunk two-counter summaries are merged Misra-Gries style,
+     * then both candidates are verified with one parallel count.
+     */
+    public java.util.List<Integer> findMajorityElementsParallel(int[] array, ForkJoinPool pool) {
+        return findMajorityElementsParallel(array, pool, PARALLEL_THRESHOLD, chunkSizeFor(array, pool));
+    }
+
+    java.util.List<Integer> findMajorityElementsParallel(int[] array, ForkJoinPool pool,
+                                                         int threshold, int chunkSize) {
+        if (array == null || array.length < threshold) {
+            java.util.List<Integer> result = findMajorityElements(array);
+            java.util.Collections.sort(result);
+            return result;
+        }
+
+        tracker.beginCall("findMajorityElementsParallel", array.length, "parallel");
+
+        long[] pair = pool.invoke(new MajorityVoteTasks.CandidatePairTask(array, 0, array.length, chunkSize));
+        int[] targets = pair[3] > 0 ? new int[]{(int) pair[0], (int) pair[2]} : new int[]{(int) pair[0]};
+        long[] counts = pool.invoke(new MajorityVoteTasks.CountTask(array, targets, 0, array.length, chunkSize));
+
+        java.util.List<Integer> result = new java.util.ArrayList<>();
+        int n = array.length;
+        for (int t = 0; t < targets.length; t++) {
+            if (counts[t] > n / 3) result.add(targets[t]);
+        }
+        java.util.Collections.sort(result);
+
+        tracker.recordArrayAccess(2L * n);
+        tracker.recordComparisons(3L * n);
+        tracker.stopTimer();
+        return result;
+    }
+
+    static int chunkSizeFor(int[] array, ForkJoinPool pool) {
+        int length = array == null ? 0 : array.length;
+        return Math.max(MIN_CHUNK_SIZE, length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+    }
+
     private int findCandidate(int[] array) {
         int count = 0;
-        Integer candidate = null;
+        int candidate = 0;
 
         for (int num : array) {
-            tracker.recordArrayAccess(1);
-            tracker.recordComparison();
-
             if (count == 0) {
                 candidate = num;
                 count = 1;
@@ -115,19 +263,16 @@ public class BoyerMooreMajorityVote {
                 count--;
             }
         }
+        tracker.recordArrayAccess(array.length);
+        tracker.recordComparisons(array.length);
 
-        return candidate != null ? candidate : 0;
+        return candidate;
     }
 
     private boolean verifyCandidate(int[] array, int candidate) {
-        int count = 0;
-        for (int num : array) {
-            tracker.recordArrayAccess(1);
-            tracker.recordComparison();
-            if (num == candidate) {
-                count++;
-            }
-        }
+        int count = ReductionKernels.get().countEquals(array, 0, array.length, candidate);
+        tracker.recordArrayAccess(array.length);
+        tracker.recordComparisons(array.length);
         return count > array.length / 2;
     }
 
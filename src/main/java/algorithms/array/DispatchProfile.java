@@ -0,0 +1,171 @@
+package algorithms.array;
+
+import algorithms.metrics.InstrumentationLevel;
+import algorithms.workload.WorkloadGenerator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Size thresholds above which {@link AdaptiveDispatcher} switches to the parallel engines.
+ * Comes from the built-in defaults, a short calibration run on this machine, or a stored
+ * properties file written by an earlier calibration.
+ */
+public final class DispatchProfile {
+    /** Threshold meaning "never go parallel" */
+    public static final int NEVER = Integer.MAX_VALUE;
+
+    static final int MIN_CALIBRATION_SIZE = 1 << 12;
+    static final int MAX_CALIBRATION_SIZE = 1 << 22;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    private final int cores;
+    private final int kadaneParallelThreshold;
+    private final int majorityParallelThreshold;
+    private final String kernel;
+
+    public DispatchProfile(int cores, int kadaneParallelThreshold, int majorityParallelThreshold) {
+        this(cores, kadaneParallelThreshold, majorityParallelThreshold, ReductionKernels.get().name());
+    }
+
+    private DispatchProfile(int cores, int kadaneParallelThreshold, int majorityParallelThreshold, String kernel) {
+        if (cores < 1 || kadaneParallelThreshold < 0 || majorityParallelThreshold < 0) {
+            throw new IllegalArgumentException("Invalid profile");
+        }
+        this.cores = cores;
+        this.kadaneParallelThreshold = kadaneParallelThreshold;
+        this.majorityParallelThreshold = majorityParallelThreshold;
+        this.kernel = kernel;
+    }
+
+    /** The algorithms' own PARALLEL_THRESHOLD constants, or never parallel on a single core */
+    public static DispatchProfile defaults(ForkJoinPool pool) {
+        int cores = pool.getParallelism();
+        if (cores < 2) {
+            return new DispatchProfile(cores, NEVER, NEVER);
+        }
+        return new DispatchProfile(cores, KadaneAlgorithm.PARALLEL_THRESHOLD, BoyerMooreMajorityVote.PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Times the sequential and parallel engines on doubling sizes and picks the first
+     * size where parallel wins. Takes well under a second on typical hardware.
+     */
+    public static DispatchProfile calibrate(ForkJoinPool pool) {
+        return calibrate(pool, MAX_CALIBRATION_SIZE);
+    }
+
+    static DispatchProfile calibrate(ForkJoinPool pool, int maxSize) {
+        int cores = pool.getParallelism();
+        if (cores < 2) {
+            return new DispatchProfile(cores, NEVER, NEVER);
+        }
+        WorkloadGenerator generator = new WorkloadGenerator(7);
+        int[] mixed = generator.uniform(maxSize, -100, 100);
+        int[] majority = generator.withMajority(maxSize, 100);
+        KadaneAlgorithm kadane = new KadaneAlgorithm(InstrumentationLevel.OFF);
+        BoyerMooreMajorityVote boyerMoore = new BoyerMooreMajorityVote(InstrumentationLevel.OFF);
+
+        int kadaneThreshold = NEVER;
+        int majorityThreshold = NEVER;
+        for (int size = MIN_CALIBRATION_SIZE; size <= maxSize; size <<= 1) {
+            int[] a = Arrays.copyOf(mixed, size);
+            int[] m = Arrays.copyOf(majority, size);
+            int chunk = KadaneAlgorithm.chunkSizeFor(a, pool);
+            if (kadaneThreshold == NEVER
+                    && bestTime(() -> kadane.findMaximumSubarrayParallel(a, pool, 0, chunk))
+                    < bestTime(() -> kadane.findMaximumSubarray(a, new KadaneAlgorithm.Bounds()))) {
+                kadaneThreshold = size;
+            }
+            int majorityChunk = BoyerMooreMajorityVote.chunkSizeFor(m, pool);
+            if (majorityThreshold == NEVER
+                    && bestTime(() -> boyerMoore.findMajorityParallel(m, pool, 0, majorityChunk))
+                    < bestTime(() -> boyerMoore.findMajority(m, new BoyerMooreMajorityVote.Majority()))) {
+                majorityThreshold = size;
+            }
+        }
+        return new DispatchProfile(cores, kadaneThreshold, majorityThreshold);
+    }
+
+    private static long bestTime(Runnable run) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            run.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            run.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    public static DispatchProfile load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(path)) {
+            properties.load(in);
+        }
+        try {
+            return new DispatchProfile(
+                    Integer.parseInt(properties.getProperty("cores")),
+                    Integer.parseInt(properties.getProperty("kadane.parallelThreshold")),
+                    Integer.parseInt(properties.getProperty("majority.parallelThreshold")),
+                    properties.getProperty("kernel", ""));
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed dispatch profile " + path, e);
+        }
+    }
+
+    public void store(Path path) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("cores", Integer.toString(cores));
+        properties.setProperty("kadane.parallelThreshold", Integer.toString(kadaneParallelThreshold));
+        properties.setProperty("majority.parallelThreshold", Integer.toString(majorityParallelThreshold));
+        properties.setProperty("kernel", kernel);
+        try (OutputStream out = Files.newOutputStream(path)) {
+            properties.store(out, "AdaptiveDispatcher calibration");
+        }
+    }
+
+    /**
+     * Loads the stored profile if it was calibrated for the same core count and kernels,
+     * otherwise calibrates now and stores the result.
+     */
+    public static DispatchProfile loadOrCalibrate(Path path, ForkJoinPool pool) throws IOException {
+        if (Files.exists(path)) {
+            DispatchProfile stored = load(path);
+            if (stored.matches(pool)) {
+                return stored;
+            }
+        }
+        DispatchProfile calibrated = calibrate(pool);
+        calibrated.store(path);
+        return calibrated;
+    }
+
+    boolean matches(ForkJoinPool pool) {
+        return cores == pool.getParallelism() && kernel.equals(ReductionKernels.get().name());
+    }
+
+    public int getCores() { return cores; }
+    public int getKadaneParallelThreshold() { return kadaneParallelThreshold; }
+    public int getMajorityParallelThreshold() { return majorityParallelThreshold; }
+    public String getKernel() { return kernel; }
+
+    @Override
+    public String toString() {
+        return String.format("DispatchProfile{cores=%d, kadaneParallel=%s, majorityParallel=%s, kernel=%s}",
+                cores, describe(kadaneParallelThreshold), describe(majorityParallelThreshold), kernel);
+    }
+
+    private static String describe(int threshold) {
+        return threshold == NEVER ? "never" : ">=" + threshold;
+    }
+}
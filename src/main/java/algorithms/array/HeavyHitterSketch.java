@@ -0,0 +1,197 @@
+package algorithms.array;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Bounded-memory, mergeable summary of the most frequent values in a stream (a Misra-Gries
+ * summary, which is equivalent to SpaceSaving). With ceil(1/epsilon) counters, each stored
+ * count undercounts the true frequency by at most {@link #getErrorBound()}, and that bound is
+ * never more than epsilon * n. No second pass over the data is needed.
+ * Counters are longs in an {@link IntCountTable}, and updates are amortized O(1).
+ * Sketches with the same epsilon merge into one that has the same guarantee for the combined
+ * stream, and serialize to 12 bytes per counter plus a 28-byte header.
+ */
+public class HeavyHitterSketch {
+    private static final int MAGIC = 0x48485331; // "HHS1"
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4;
+
+    private final double epsilon;
+    private final int counters;
+    private final IntCountTable table;
+    private long total;
+    private long errorBound;
+
+    public HeavyHitterSketch(double epsilon) {
+        this(countersFor(epsilon));
+    }
+
+    private HeavyHitterSketch(int counters) {
+        this.counters = counters;
+        this.epsilon = 1.0 / counters;
+        // Room for two full sketches at load factor 1/2, so a merge never rehashes
+        this.table = new IntCountTable(2 * counters);
+    }
+
+    private static int countersFor(double epsilon) {
+        if (!(epsilon > 0 && epsilon < 1)) {
+            throw new IllegalArgumentException("epsilon must be in (0, 1): " + epsilon);
+        }
+        double needed = Math.ceil(1.0 / epsilon);
+        if (needed > (1 << 28)) {
+            throw new IllegalArgumentException("epsilon too small: " + epsilon);
+        }
+        return (int) needed;
+    }
+
+    public void accept(int value) {
+        total++;
+        if (table.addIfPresent(value, 1) != 0) {
+            return;
+        }
+        if (table.size() < counters) {
+            table.increment(value);
+        } else {
+            // The new value cancels one occurrence of every tracked value
+            subtractAll(1);
+        }
+    }
+
+    public void accept(int[] chunk) {
+        accept(chunk, 0, chunk.length);
+    }
+
+    public void accept(int[] chunk, int from, int to) {
+        for (int i = from; i < to; i++) {
+            accept(chunk[i]);
+        }
+    }
+
+    private void subtractAll(long amount) {
+        table.subtractAll(amount);
+        errorBound += amount;
+    }
+
+    /**
+     * Adds other's counters into this sketch. If more than the counter budget survive,
+     * the (budget + 1)-th largest count is subtracted from all of them.
+     */
+    public void merge(HeavyHitterSketch other) {
+        if (other.counters != counters) {
+            throw new IllegalArgumentException("Cannot merge sketches with " + counters + " and "
+                    + other.counters + " counters");
+        }
+        // Merging into itself is safe: every key already exists, so counts grow in place without rehashing
+        forEachCounter(other.table, table);
+        total += other.total;
+        errorBound += other.errorBound;
+
+        int size = table.size();
+        if (size > counters) {
+            long[] live = new long[size];
+            int n = 0;
+            for (int slot = 0; slot < table.capacity(); slot++) {
+                long count = table.slotCount(slot);
+                if (count != 0) live[n++] = count;
+            }
+            Arrays.sort(live);
+            subtractAll(live[size - counters - 1]);
+        }
+    }
+
+    private static void forEachCounter(IntCountTable from, IntCountTable into) {
+        for (int slot = 0; slot < from.capacity(); slot++) {
+            long count = from.slotCount(slot);
+            if (count != 0) {
+                into.add(from.slotKey(slot), count);
+            }
+        }
+    }
+
+    /** Stored count: a lower bound on the value's true frequency */
+    public long estimate(int value) {
+        return table.get(value);
+    }
+
+    /** Upper bound on the value's true frequency */
+    public long upperBound(int value) {
+        return estimate(value) + errorBound;
+    }
+
+    /**
+     * Every value whose true frequency exceeds fraction * n is returned (no false negatives),
+     * and only values whose true frequency exceeds (fraction - epsilon) * n can appear.
+     * @return candidate values in ascending order
+     * @throws IllegalArgumentException if fraction &lt;= epsilon, where the guarantee does not hold
+     */
+    public int[] heavyHitters(double fraction) {
+        if (!(fraction > epsilon)) {
+            throw new IllegalArgumentException("fraction must exceed epsilon " + epsilon + ": " + fraction);
+        }
+        double threshold = fraction * total;
+        int[] result = new int[table.size()];
+        int n = 0;
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            long count = table.slotCount(slot);
+            if (count != 0 && count + errorBound > threshold) {
+                result[n++] = table.slotKey(slot);
+            }
+        }
+        result = Arrays.copyOf(result, n);
+        Arrays.sort(result);
+        return result;
+    }
+
+    public double getEpsilon() { return epsilon; }
+    public int getCounters() { return counters; }
+    public int size() { return table.size(); }
+    /** Number of values accepted, including those merged in */
+    public long getCount() { return total; }
+    /** Largest possible undercount of any stored or missing value; at most epsilon * count */
+    public long getErrorBound() { return errorBound; }
+
+    public long memoryBytes() {
+        // Live and spare arrays of the table
+        return 2L * table.capacity() * (Integer.BYTES + Long.BYTES);
+    }
+
+    public byte[] toBytes() {
+        int size = table.size();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + size * (Integer.BYTES + Long.BYTES));
+        buffer.putInt(MAGIC).putInt(counters).putLong(total).putLong(errorBound).putInt(size);
+        for (int slot = 0; slot < table.capacity(); slot++) {
+            long count = table.slotCount(slot);
+            if (count != 0) {
+                buffer.putInt(table.slotKey(slot)).putLong(count);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static HeavyHitterSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a heavy hitter sketch");
+        }
+        int counters = buffer.getInt();
+        long total = buffer.getLong();
+        long errorBound = buffer.getLong();
+        int size = buffer.getInt();
+        if (counters < 1 || counters > (1 << 28) || size < 0 || size > counters
+                || bytes.length != HEADER_BYTES + size * (Integer.BYTES + Long.BYTES)) {
+            throw new IllegalArgumentException("Corrupt heavy hitter sketch");
+        }
+        HeavyHitterSketch sketch = new HeavyHitterSketch(counters);
+        for (int i = 0; i < size; i++) {
+            int key = buffer.getInt();
+            long count = buffer.getLong();
+            if (count <= 0) {
+                throw new IllegalArgumentException("Corrupt heavy hitter sketch");
+            }
+            sketch.table.add(key, count);
+        }
+        sketch.total = total;
+        sketch.errorBound = errorBound;
+        return sketch;
+    }
+}
@@ -0,0 +1,162 @@
+package algorithms.array;
+
+/**
+ * Open-addressing int to count table backed by two primitive arrays.
+ * Linear probing with backward-shift deletion keeps lookups short without
+ * tombstones, so keys can come and go indefinitely without boxing or rehash churn.
+ * Counts are longs, so streams longer than 2^31 elements cannot overflow them.
+ */
+final class IntCountTable {
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private int[] keys;
+    private long[] counts;
+    private int[] spareKeys;
+    private long[] spareCounts;
+    private int mask;
+    private int shift;
+    private int size;
+
+    IntCountTable(int expectedKeys) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedKeys * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        counts = new long[capacity];
+        mask = capacity - 1;
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+        size = 0;
+    }
+
+    private int home(int key) {
+        return (key * GOLDEN_RATIO) >>> shift;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    long get(int key) {
+        for (int slot = home(key); counts[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) return counts[slot];
+        }
+        return 0;
+    }
+
+    /** Adds delta (> 0) to the key's count and returns the new count */
+    long add(int key, long delta) {
+        int slot = home(key);
+        while (counts[slot] != 0) {
+            if (keys[slot] == key) {
+                return counts[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+            return add(key, delta);
+        }
+        keys[slot] = key;
+        counts[slot] = delta;
+        size++;
+        return delta;
+    }
+
+    /** Adds delta to an existing key's count; returns the new count, or 0 if the key is absent */
+    long addIfPresent(int key, long delta) {
+        for (int slot = home(key); counts[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) return counts[slot] += delta;
+        }
+        return 0;
+    }
+
+    long increment(int key) {
+        return add(key, 1);
+    }
+
+    /** Decrements the key's count, removing it at zero; returns the new count */
+    long decrement(int key) {
+        for (int slot = home(key); counts[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                long remaining = --counts[slot];
+                if (remaining == 0) {
+                    removeAt(slot);
+                }
+                return remaining;
+            }
+        }
+        return 0;
+    }
+
+    void clear() {
+        java.util.Arrays.fill(counts, 0);
+        size = 0;
+    }
+
+    // Slot-level access for callers that iterate or bulk-update the table
+    int slotKey(int slot) { return keys[slot]; }
+    long slotCount(int slot) { return counts[slot]; }
+
+    /**
+     * Subtracts amount from every count and drops keys that reach zero or below.
+     * Survivors are rehashed into a spare pair of arrays that is reused across calls.
+     */
+    void subtractAll(long amount) {
+        if (spareKeys == null || spareKeys.length != keys.length) {
+            spareKeys = new int[keys.length];
+            spareCounts = new long[keys.length];
+        }
+        int[] oldKeys = keys;
+        long[] oldCounts = counts;
+        keys = spareKeys;
+        counts = spareCounts;
+        spareKeys = oldKeys;
+        spareCounts = oldCounts;
+        java.util.Arrays.fill(counts, 0);
+        size = 0;
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            long remaining = oldCounts[slot] - amount;
+            if (oldCounts[slot] != 0 && remaining > 0) {
+                add(oldKeys[slot], remaining);
+            }
+        }
+    }
+
+    private void removeAt(int slot) {
+        int hole = slot;
+        int next = slot;
+        while (true) {
+            next = (next + 1) & mask;
+            if (counts[next] == 0) break;
+            int desired = home(keys[next]);
+            // Leave the entry alone if its home lies cyclically in (hole, next]
+            boolean stays = hole <= next
+                    ? hole < desired && desired <= next
+                    : hole < desired || desired <= next;
+            if (!stays) {
+                keys[hole] = keys[next];
+                counts[hole] = counts[next];
+                hole = next;
+            }
+        }
+        counts[hole] = 0;
+        size--;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        long[] oldCounts = counts;
+        allocate(oldKeys.length << 1);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldCounts[slot] != 0) {
+                add(oldKeys[slot], oldCounts[slot]);
+            }
+        }
+    }
+}
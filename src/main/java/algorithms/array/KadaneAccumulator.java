@@ -0,0 +1,162 @@
+package algorithms.array;
+
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+
+/**
+ * Incremental Kadane's algorithm over an unbounded feed of ints.
+ * Keeps O(1) state no matter how many elements were seen, reports the best sum
+ * with global long offsets at any moment, and picks the same subarray as
+ * {@link KadaneAlgorithm#findMaximumSubarray(int[])} would on the concatenated input.
+ */
+public class KadaneAccumulator {
+    private long position;
+    private long run;
+    private long runStart;
+    private long bestSum;
+    private long bestStart = -1;
+    private long bestEnd = -1;
+
+    public KadaneAccumulator() {
+    }
+
+    private KadaneAccumulator(Snapshot snapshot) {
+        this.position = snapshot.position;
+        this.run = snapshot.run;
+        this.runStart = snapshot.runStart;
+        this.bestSum = snapshot.bestSum;
+        this.bestStart = snapshot.bestStart;
+        this.bestEnd = snapshot.bestEnd;
+    }
+
+    /**
+     * Restores an accumulator from a snapshot so a restarted consumer can continue
+     * from the next unseen element without rescanning.
+     */
+    public static KadaneAccumulator resume(Snapshot snapshot) {
+        return new KadaneAccumulator(snapshot);
+    }
+
+    public void accept(int value) {
+        // Same reset rule as the array scan: restart when the running sum is not positive
+        if (position == 0 || run <= 0) {
+            run = value;
+            runStart = position;
+        } else {
+            run += value;
+        }
+        if (position == 0 || run > bestSum) {
+            bestSum = run;
+            bestStart = runStart;
+            bestEnd = position;
+        }
+        position++;
+    }
+
+    public void accept(int[] chunk) {
+        accept(chunk, 0, chunk.length);
+    }
+
+    /**
+     * Feeds chunk[from, to); the hot loop works on locals and writes state back once.
+     */
+    public void accept(int[] chunk, int from, int to) {
+        if (from < 0 || to > chunk.length || from > to) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d) out of bounds for length %d", from, to, chunk.length));
+        }
+        if (from == to) {
+            return;
+        }
+        if (position == 0) {
+            accept(chunk[from++]);
+        }
+
+        long pos = position, r = run, rStart = runStart;
+        long best = bestSum, bStart = bestStart, bEnd = bestEnd;
+        for (int i = from; i < to; i++, pos++) {
+            int value = chunk[i];
+            if (r <= 0) {
+                r = value;
+                rStart = pos;
+            } else {
+                r += value;
+            }
+            if (r > best) {
+                best = r;
+                bStart = rStart;
+                bEnd = pos;
+            }
+        }
+        position = pos;
+        run = r;
+        runStart = rStart;
+        bestSum = best;
+        bestStart = bStart;
+        bestEnd = bEnd;
+    }
+
+    public void accept(IntStream stream) {
+        stream.sequential().forEachOrdered(this::accept);
+    }
+
+    public boolean isEmpty() { return position == 0; }
+    public long getCount() { return position; }
+    public long getBestSum() { return bestSum; }
+    public long getBestStart() { return bestStart; }
+    public long getBestEnd() { return bestEnd; }
+
+    public Snapshot snapshot() {
+        return new Snapshot(position, run, runStart, bestSum, bestStart, bestEnd);
+    }
+
+    /**
+     * Immutable accumulator state with a fixed-size binary form for checkpointing.
+     */
+    public static final class Snapshot {
+        public static final int BYTES = 6 * Long.BYTES;
+
+        public final long position;
+        public final long run;
+        public final long runStart;
+        public final long bestSum;
+        public final long bestStart;
+        public final long bestEnd;
+
+        public Snapshot(long position, long run, long runStart, long bestSum, long bestStart, long bestEnd) {
+            this.position = position;
+            this.run = run;
+            this.runStart = runStart;
+            this.bestSum = bestSum;
+            this.bestStart = bestStart;
+            this.bestEnd = bestEnd;
+        }
+
+        public byte[] toBytes() {
+            return ByteBuffer.allocate(BYTES)
+                    .putLong(position).putLong(run).putLong(runStart)
+                    .putLong(bestSum).putLong(bestStart).putLong(bestEnd)
+                    .array();
+        }
+
+        public static Snapshot fromBytes(byte[] bytes) {
+            if (bytes.length != BYTES) {
+                throw new IllegalArgumentException("Expected " + BYTES + " bytes, got " + bytes.length);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new Snapshot(buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                    buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Position: %d, Run: %d@%d, Best: %d [%d, %d]",
+                    position, run, runStart, bestSum, bestStart, bestEnd);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MaxSum: %d, Range: [%d, %d], Seen: %d", bestSum, bestStart, bestEnd, position);
+    }
+}
@@ -1,11 +1,18 @@
 package algorithms.array;
+import algorithms.metrics.InstrumentationLevel;
 import algorithms.metrics.PerformanceTracker;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Kadane's Algorithm implementation for maximum subarray problem
  * Finds contiguous subarray with maximum sum in O(n) time and O(1) space
  */
 public class KadaneAlgorithm {
+    /** Arrays shorter than this are scanned sequentially by the parallel entry points */
+    public static final int PARALLEL_THRESHOLD = 1 << 16;
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+    private static final int CHUNKS_PER_THREAD = 4;
+
     private final PerformanceTracker tracker;
 
     public static class Result {
@@ -33,20 +40,101 @@ public class KadaneAlgorithm {
         }
     }
 
+    /**
+     * Reusable, allocation-free result: sum and indices only.
+     * The winning subarray is read through the source array on request instead of being copied.
+     */
+    public static final class Bounds {
+        private int maxSum;
+        private int startIndex = -1;
+        private int endIndex = -1;
+        private int[] source;
+
+        void set(int maxSum, int startIndex, int endIndex, int[] source) {
+            this.maxSum = maxSum;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            this.source = source;
+        }
+
+        public int getMaxSum() { return maxSum; }
+        public int getStartIndex() { return startIndex; }
+        public int getEndIndex() { return endIndex; }
+
+        public int length() {
+            return startIndex < 0 ? 0 : endIndex - startIndex + 1;
+        }
+
+        /** i-th element of the winning subarray, read from the source array */
+        public int get(int i) {
+            if (i < 0 || i >= length()) {
+                throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + length());
+            }
+            return source[startIndex + i];
+        }
+
+        /** Read-only view of the winning subarray backed by the source array */
+        public java.nio.IntBuffer view() {
+            if (length() == 0) {
+                return java.nio.IntBuffer.allocate(0).asReadOnlyBuffer();
+            }
+            return java.nio.IntBuffer.wrap(source, startIndex, length()).slice().asReadOnlyBuffer();
+        }
+
+        public int[] copySubarray() {
+            return length() == 0 ? new int[0]
+                    : java.util.Arrays.copyOfRange(source, startIndex, endIndex + 1);
+        }
+
+        public Result toResult() {
+            return new Result(maxSum, startIndex, endIndex, length() == 0 ? new int[0] : source);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("MaxSum: %d, Range: [%d, %d]", maxSum, startIndex, endIndex);
+        }
+    }
+
     public KadaneAlgorithm() {
-        this.tracker = new PerformanceTracker("KadaneAlgorithm");
+        this(InstrumentationLevel.FULL);
+    }
+
+    public KadaneAlgorithm(InstrumentationLevel level) {
+        this.tracker = new PerformanceTracker("KadaneAlgorithm", level);
     }
 
     /**
      * Standard Kadane's algorithm with position tracking
      */
     public Result findMaximumSubarray(int[] array) {
-        tracker.startTimer();
-        tracker.resetCounters();
+        tracker.beginCall("findMaximumSubarray", array == null ? 0 : array.length, "sequential");
+        return finish(sequentialScan(array));
+    }
+
+    /** Sequential pass for a call already begun on the tracker */
+    Result sequentialScan(int[] array) {
+        Bounds bounds = new Bounds();
+        scan(array, bounds);
+        // The subarray copy is part of the measured call so its allocation shows up
+        return bounds.toResult();
+    }
 
+    /**
+     * Allocation-free variant: writes sum and indices into out, copies nothing.
+     * @return false if the array is null or empty
+     */
+    public boolean findMaximumSubarray(int[] array, Bounds out) {
+        tracker.beginCall("findMaximumSubarray", array == null ? 0 : array.length, "sequential");
+        boolean found = scan(array, out);
+        tracker.stopTimer();
+        return found;
+    }
+
+    private boolean scan(int[] array, Bounds out) {
         if (array == null || array.length == 0) {
-            tracker.stopTimer();
-            return new Result(0, -1, -1, new int[0]);
+            out.set(0, -1, -1, null);
+            return false;
         }
 
         int maxSoFar = array[0];
@@ -57,9 +145,6 @@ public class KadaneAlgorithm {
         tracker.recordArrayAccess(2);
 
         for (int i = 1; i < array.length; i++) {
-            tracker.recordArrayAccess(1);
-            tracker.recordComparison();
-
             if (maxEndingHere + array[i] > array[i]) {
                 maxEndingHere += array[i];
             } else {
@@ -67,139 +152,198 @@ public class KadaneAlgorithm {
                 tempStart = i;
             }
 
-            tracker.recordComparison();
             if (maxEndingHere > maxSoFar) {
                 maxSoFar = maxEndingHere;
                 start = tempStart;
                 end = i;
             }
         }
+        // Counters are batched per pass so the loop body stays free of tracker writes
+        tracker.recordArrayAccess(array.length - 1);
+        tracker.recordComparisons(2L * (array.length - 1));
 
-        tracker.stopTimer();
-        return new Result(maxSoFar, start, end, array);
+        out.set(maxSoFar, start, end, array);
+        return true;
+    }
+
+    /**
+     * Best subarray with minLength &lt;= length &lt;= maxLength in O(n), via {@link BoundedLengthKadane}.
+     * Returns an empty result (indices -1) when the array is shorter than minLength.
+     * @throws ArithmeticException if the best sum does not fit in an int
+     */
+    public Result findMaximumSubarray(int[] array, int minLength, int maxLength) {
+        BoundedLengthKadane scan = new BoundedLengthKadane(minLength, maxLength);
+        tracker.beginCall("findMaximumSubarrayBounded", array == null ? 0 : array.length, "sequential");
+        if (array != null) {
+            scan.accept(array);
+            tracker.recordArrayAccess(array.length);
+            tracker.recordComparisons(3L * array.length);
+        }
+        if (!scan.hasResult()) {
+            return finish(new Result(0, -1, -1, new int[0]));
+        }
+        return finish(new Result(Math.toIntExact(scan.getBestSum()), (int) scan.getBestStart(), (int) scan.getBestEnd(), array));
+    }
+
+    /**
+     * Parallel Kadane on the common ForkJoinPool.
+     * Returns the same sum and indices as {@link #findMaximumSubarray(int[])}.
+     */
+    public Result findMaximumSubarrayParallel(int[] array) {
+        return findMaximumSubarrayParallel(array, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Parallel Kadane: chunks are summarized on the given pool and merged pairwise.
+     * Segment sums are longs, so a best sum outside the int range is reported, not truncated.
+     * @throws ArithmeticException if the best sum does not fit in an int
+     */
+    public Result findMaximumSubarrayParallel(int[] array, ForkJoinPool pool) {
+        return findMaximumSubarrayParallel(array, pool, PARALLEL_THRESHOLD, chunkSizeFor(array, pool));
+    }
+
+    Result findMaximumSubarrayParallel(int[] array, ForkJoinPool pool, int threshold, int chunkSize) {
+        if (array == null || array.length < threshold) {
+            return findMaximumSubarray(array);
+        }
+
+        tracker.beginCall("findMaximumSubarrayParallel", array.length, "parallel");
+        return finish(parallelScan(array, pool, chunkSize));
+    }
+
+    /** Parallel pass for a call already begun on the tracker */
+    Result parallelScan(int[] array, ForkJoinPool pool, int chunkSize) {
+        SubarraySummary summary = pool.invoke(new KadaneSegmentTask(array, 0, array.length, chunkSize));
+        tracker.recordArrayAccess(array.length);
+        tracker.recordComparisons(4L * array.length);
+
+        return new Result(Math.toIntExact(summary.bestSum), (int) summary.bestStart, (int) summary.bestEnd, array);
     }
 
     /**
      * Handles case when array is circular (wraps around)
+     * Max, min and total come from one fused pass over the array.
      */
     public Result findMaximumCircularSubarray(int[] array) {
-        tracker.startTimer();
-        tracker.resetCounters();
+        tracker.beginCall("findMaximumCircularSubarray", array == null ? 0 : array.length, "sequential");
 
         if (array == null || array.length == 0) {
-            tracker.stopTimer();
-            return new Result(0, -1, -1, new int[0]);
+            return finish(new Result(0, -1, -1, new int[0]));
         }
 
-        // Case 1: Maximum subarray doesn't wrap (standard Kadane)
-        Result kadaneResult = findMaximumSubarray(array);
+        FusedScan scan = fusedScan(array);
+        tracker.recordComparisons(4L * (array.length - 1) + 1);
 
         // Case 2: Maximum subarray wraps around (total - minimum subarray)
-        int totalSum = 0;
-        for (int num : array) {
-            totalSum += num;
-            tracker.recordArrayAccess(1);
-        }
-
-        // Find minimum subarray using inverted Kadane
-        int minSubarraySum = findMinimumSubarray(array);
-        int maxWrapped = totalSum - minSubarraySum;
+        int maxWrapped = scan.total - scan.minSum;
 
         // Special case: all negative numbers
-        if (maxWrapped == 0 && kadaneResult.maxSum < 0) {
-            tracker.stopTimer();
-            return kadaneResult;
-        }
-
-        tracker.recordComparison();
-        if (maxWrapped > kadaneResult.maxSum) {
-            // For circular case, we need to find the actual indices
-            Result minSubarray = findMinimumSubarrayWithIndices(array);
-            int start = (minSubarray.endIndex + 1) % array.length;
-            int end = (minSubarray.startIndex - 1 + array.length) % array.length;
-            tracker.stopTimer();
-            return new Result(maxWrapped, start, end, array);
+        if (maxWrapped == 0 && scan.maxSum < 0) {
+            return finish(new Result(scan.maxSum, scan.maxStart, scan.maxEnd, array));
+        }
+
+        if (maxWrapped > scan.maxSum) {
+            int start = (scan.minEnd + 1) % array.length;
+            int end = (scan.minStart - 1 + array.length) % array.length;
+            return finish(new Result(maxWrapped, start, end, array));
         } else {
-            tracker.stopTimer();
-            return kadaneResult;
+            // Case 1: Maximum subarray doesn't wrap (standard Kadane)
+            return finish(new Result(scan.maxSum, scan.maxStart, scan.maxEnd, array));
         }
     }
 
     /**
      * Optimization: Kadane with early termination for positive arrays
+     * The sign check and the total ride along in the same pass as Kadane.
      */
     public Result findMaximumSubarrayOptimized(int[] array) {
-        tracker.startTimer();
-        tracker.resetCounters();
+        tracker.beginCall("findMaximumSubarrayOptimized", array == null ? 0 : array.length, "sequential");
 
         if (array == null || array.length == 0) {
-            tracker.stopTimer();
-            return new Result(0, -1, -1, new int[0]);
-        }
-
-        // Early check: if all positive, return entire array
-        boolean allPositive = true;
-        for (int num : array) {
-            tracker.recordArrayAccess(1);
-            tracker.recordComparison();
-            if (num < 0) {
-                allPositive = false;
-                break;
-            }
+            return finish(new Result(0, -1, -1, new int[0]));
         }
 
-        if (allPositive) {
-            int total = 0;
-            for (int num : array) {
-                total += num;
-                tracker.recordArrayAccess(1);
-            }
-            tracker.stopTimer();
-            return new Result(total, 0, array.length - 1, array);
-        }
-
-        // Otherwise use standard algorithm
-        return findMaximumSubarray(array);
-    }
+        FusedScan scan = fusedScan(array);
+        tracker.recordComparisons(4L * (array.length - 1) + array.length);
 
-    private int findMinimumSubarray(int[] array) {
-        int minEndingHere = array[0];
-        int minSoFar = array[0];
-
-        tracker.recordArrayAccess(2);
-
-        for (int i = 1; i < array.length; i++) {
-            tracker.recordArrayAccess(1);
-            tracker.recordComparison();
-            minEndingHere = Math.min(array[i], minEndingHere + array[i]);
-            minSoFar = Math.min(minSoFar, minEndingHere);
+        // If there is no negative element the whole array is the answer
+        if (!scan.hasNegative) {
+            return finish(new Result(scan.total, 0, array.length - 1, array));
         }
+        return finish(new Result(scan.maxSum, scan.maxStart, scan.maxEnd, array));
+    }
 
-        return minSoFar;
+    /** Everything the circular and optimized variants need from a single pass */
+    private static final class FusedScan {
+        int maxSum, maxStart, maxEnd;
+        int minSum, minStart, minEnd;
+        int total;
+        boolean hasNegative;
     }
 
-    private Result findMinimumSubarrayWithIndices(int[] array) {
-        int minSoFar = array[0];
-        int minEndingHere = array[0];
-        int start = 0, end = 0;
-        int tempStart = 0;
+    /**
+     * One pass computing max subarray, min subarray (both with indices), total and sign.
+     * The max side uses the same tie-breaking as findMaximumSubarray; the min side mirrors it.
+     */
+    private FusedScan fusedScan(int[] array) {
+        int first = array[0];
+        int maxSoFar = first, maxEndingHere = first, maxStart = 0, maxEnd = 0, maxTempStart = 0;
+        int minSoFar = first, minEndingHere = first, minStart = 0, minEnd = 0, minTempStart = 0;
+        int total = first;
+        boolean hasNegative = first < 0;
 
         for (int i = 1; i < array.length; i++) {
-            if (minEndingHere + array[i] < array[i]) {
-                minEndingHere = array[i];
-                tempStart = i;
+            int value = array[i];
+            total += value;
+            hasNegative |= value < 0;
+
+            if (maxEndingHere + value > value) {
+                maxEndingHere += value;
             } else {
-                minEndingHere += array[i];
+                maxEndingHere = value;
+                maxTempStart = i;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                maxStart = maxTempStart;
+                maxEnd = i;
             }
 
+            if (minEndingHere + value < value) {
+                minEndingHere += value;
+            } else {
+                minEndingHere = value;
+                minTempStart = i;
+            }
             if (minEndingHere < minSoFar) {
                 minSoFar = minEndingHere;
-                start = tempStart;
-                end = i;
+                minStart = minTempStart;
+                minEnd = i;
             }
         }
+        tracker.recordArrayAccess(array.length);
+
+        FusedScan scan = new FusedScan();
+        scan.maxSum = maxSoFar;
+        scan.maxStart = maxStart;
+        scan.maxEnd = maxEnd;
+        scan.minSum = minSoFar;
+        scan.minStart = minStart;
+        scan.minEnd = minEnd;
+        scan.total = total;
+        scan.hasNegative = hasNegative;
+        return scan;
+    }
 
-        return new Result(minSoFar, start, end, array);
+    static int chunkSizeFor(int[] array, ForkJoinPool pool) {
+        int length = array == null ? 0 : array.length;
+        return Math.max(MIN_CHUNK_SIZE, length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+    }
+
+    /** Stops the call after the Result (and its subarray copy) has been built */
+    private Result finish(Result result) {
+        tracker.stopTimer();
+        return result;
     }
 
     public PerformanceTracker getTracker() {
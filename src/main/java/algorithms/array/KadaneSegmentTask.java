@@ -0,0 +1,35 @@
+package algorithms.array;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join task that summarizes array[from, to) by splitting it in halves
+ * until a chunk is small enough to scan directly.
+ */
+class KadaneSegmentTask extends RecursiveTask<SubarraySummary> {
+    private static final long serialVersionUID = 1L;
+    private final int[] array;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    KadaneSegmentTask(int[] array, int from, int to, int chunkSize) {
+        this.array = array;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected SubarraySummary compute() {
+        if (to - from <= chunkSize) {
+            return SubarraySummary.of(array, from, to, from);
+        }
+        int mid = (from + to) >>> 1;
+        KadaneSegmentTask left = new KadaneSegmentTask(array, from, mid, chunkSize);
+        KadaneSegmentTask right = new KadaneSegmentTask(array, mid, to, chunkSize);
+        left.fork();
+        SubarraySummary rightSummary = right.compute();
+        return left.join().merge(rightSummary);
+    }
+}
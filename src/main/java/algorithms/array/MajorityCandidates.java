@@ -0,0 +1,103 @@
+package algorithms.array;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Mergeable candidate round of Boyer-Moore for one shard [offset, offset + length): the
+ * majority candidate with its vote count, and the two Misra-Gries counters for the n/3
+ * variant. Which candidate survives a merge depends on the merge order, so shards merge
+ * left to right, like {@link SubarraySummary}; every value above n/2 (resp. n/3) of the
+ * union stays among the candidates, and {@link MajorityCounts} then confirms them exactly.
+ * Counts are longs so shards may exceed 2^31 elements.
+ */
+public final class MajorityCandidates {
+    public static final int BYTES = 2 * Long.BYTES + 3 * (Integer.BYTES + Long.BYTES);
+
+    public final long offset;
+    public final long length;
+    public final int candidate;
+    public final long count;
+    public final int first;
+    public final long firstCount;
+    public final int second;
+    public final long secondCount;
+
+    public MajorityCandidates(long offset, long length, int candidate, long count,
+                              int first, long firstCount, int second, long secondCount) {
+        this.offset = offset;
+        this.length = length;
+        this.candidate = candidate;
+        this.count = count;
+        this.first = first;
+        this.firstCount = firstCount;
+        this.second = second;
+        this.secondCount = secondCount;
+    }
+
+    /**
+     * Candidates of array[from, to) whose first element sits at global position offset.
+     */
+    public static MajorityCandidates of(int[] array, int from, int to, long offset) {
+        long packed = MajorityVoteTasks.candidate(array, from, to);
+        long[] pair = MajorityVoteTasks.candidatePair(array, from, to);
+        return new MajorityCandidates(offset, to - from,
+                MajorityVoteTasks.candidateOf(packed), MajorityVoteTasks.countOf(packed),
+                (int) pair[0], pair[1], (int) pair[2], pair[3]);
+    }
+
+    /**
+     * Candidates of this shard followed by the adjacent shard right, using the same rules
+     * as the in-process merges.
+     */
+    public MajorityCandidates merge(MajorityCandidates right) {
+        if (offset + length != right.offset) {
+            throw new IllegalArgumentException(String.format(
+                    "Shards are not adjacent: [%d, %d) and [%d, %d)",
+                    offset, offset + length, right.offset, right.offset + right.length));
+        }
+        long[] pair = MajorityVoteTasks.mergeCandidatePairs(
+                new long[]{first, firstCount, second, secondCount},
+                new long[]{right.first, right.firstCount, right.second, right.secondCount});
+        return new MajorityCandidates(offset, length + right.length,
+                MajorityVoteTasks.survivor(candidate, count, right.candidate, right.count),
+                MajorityVoteTasks.survivorCount(candidate, count, right.candidate, right.count),
+                (int) pair[0], pair[1], (int) pair[2], pair[3]);
+    }
+
+    /** Distinct values that need an exact count, in ascending order */
+    public int[] targets() {
+        int[] values = new int[3];
+        int size = 0;
+        if (count > 0) values[size++] = candidate;
+        if (firstCount > 0) values[size++] = first;
+        if (secondCount > 0) values[size++] = second;
+        return Arrays.stream(values, 0, size).distinct().sorted().toArray();
+    }
+
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(BYTES)
+                .putLong(offset).putLong(length)
+                .putInt(candidate).putLong(count)
+                .putInt(first).putLong(firstCount)
+                .putInt(second).putLong(secondCount)
+                .array();
+    }
+
+    public static MajorityCandidates fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("Expected " + BYTES + " bytes, got " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new MajorityCandidates(buffer.getLong(), buffer.getLong(),
+                buffer.getInt(), buffer.getLong(),
+                buffer.getInt(), buffer.getLong(),
+                buffer.getInt(), buffer.getLong());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Range: [%d, %d) | Majority candidate: %d (%d) | Pair: %d (%d), %d (%d)",
+                offset, offset + length, candidate, count, first, firstCount, second, secondCount);
+    }
+}
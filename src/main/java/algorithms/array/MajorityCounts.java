@@ -0,0 +1,105 @@
+package algorithms.array;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Verification round for sharded Boyer-Moore: exact occurrence counts of the merged
+ * candidates in one shard [offset, offset + length). Counts of adjacent shards add up,
+ * so merging every shard once gives the exact global counts.
+ */
+public final class MajorityCounts {
+    public final long offset;
+    public final long length;
+    private final int[] values;
+    private final long[] counts;
+
+    public MajorityCounts(long offset, long length, int[] values, long[] counts) {
+        if (values.length != counts.length) {
+            throw new IllegalArgumentException("Values and counts differ in length");
+        }
+        this.offset = offset;
+        this.length = length;
+        this.values = values.clone();
+        this.counts = counts.clone();
+    }
+
+    /**
+     * Counts of targets in array[from, to) whose first element sits at global position offset.
+     */
+    public static MajorityCounts of(int[] array, int from, int to, long offset, int[] targets) {
+        long[] counts = new long[targets.length];
+        MajorityVoteTasks.addCounts(array, from, to, targets, counts);
+        return new MajorityCounts(offset, to - from, targets, counts);
+    }
+
+    /** Counts of this shard followed by the adjacent shard other */
+    public MajorityCounts merge(MajorityCounts other) {
+        if (offset + length != other.offset) {
+            throw new IllegalArgumentException(String.format(
+                    "Shards are not adjacent: [%d, %d) and [%d, %d)",
+                    offset, offset + length, other.offset, other.offset + other.length));
+        }
+        if (!Arrays.equals(values, other.values)) {
+            throw new IllegalArgumentException("Counts were taken for different candidates: "
+                    + Arrays.toString(values) + " and " + Arrays.toString(other.values));
+        }
+        long[] merged = counts.clone();
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] += other.counts[i];
+        }
+        return new MajorityCounts(offset, length + other.length, values, merged);
+    }
+
+    public int[] getValues() { return values.clone(); }
+    public long getCount(int index) { return counts[index]; }
+
+    /** The value occurring more than length/2 times, or null */
+    public Integer majority() {
+        for (int i = 0; i < values.length; i++) {
+            if (counts[i] > length / 2) return values[i];
+        }
+        return null;
+    }
+
+    /** Values occurring more than length/3 times, in ascending order */
+    public List<Integer> majorityElements() {
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            if (counts[i] > length / 3) result.add(values[i]);
+        }
+        return result;
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * Long.BYTES + Integer.BYTES
+                + values.length * (Integer.BYTES + Long.BYTES));
+        buffer.putLong(offset).putLong(length).putInt(values.length);
+        for (int i = 0; i < values.length; i++) {
+            buffer.putInt(values[i]).putLong(counts[i]);
+        }
+        return buffer.array();
+    }
+
+    public static MajorityCounts fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (bytes.length < 2 * Long.BYTES + Integer.BYTES) {
+            throw new IllegalArgumentException("Corrupt majority counts");
+        }
+        long offset = buffer.getLong();
+        long length = buffer.getLong();
+        int size = buffer.getInt();
+        if (size < 0 || bytes.length != 2 * Long.BYTES + Integer.BYTES + size * (Integer.BYTES + Long.BYTES)) {
+            throw new IllegalArgumentException("Corrupt majority counts");
+        }
+        int[] values = new int[size];
+        long[] counts = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = buffer.getInt();
+            counts[i] = buffer.getLong();
+        }
+        return new MajorityCounts(offset, length, values, counts);
+    }
+}
@@ -0,0 +1,249 @@
+package algorithms.array;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join tasks behind the parallel Boyer-Moore entry points.
+ * Candidate phases return mergeable (candidate, count) summaries: a value that is
+ * a majority of the whole range is always the surviving candidate of the merge.
+ * The merge rules work on long counts so inputs past 2^31 elements (mapped files) can use
+ * them too; the packed (candidate, count) form is for in-memory ranges, whose counts fit an int.
+ */
+final class MajorityVoteTasks {
+
+    private MajorityVoteTasks() {
+    }
+
+    static long pack(int candidate, int count) {
+        return ((long) candidate << 32) | (count & 0xFFFFFFFFL);
+    }
+
+    static int candidateOf(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    static int countOf(long packed) {
+        return (int) packed;
+    }
+
+    /** Pairs annihilate across segments exactly as they would inside one scan */
+    static long mergeCandidates(long left, long right) {
+        int leftCandidate = candidateOf(left);
+        int rightCandidate = candidateOf(right);
+        return pack(survivor(leftCandidate, countOf(left), rightCandidate, countOf(right)),
+                (int) survivorCount(leftCandidate, countOf(left), rightCandidate, countOf(right)));
+    }
+
+    /** Candidate left after merging the votes (leftCandidate, leftCount) and (rightCandidate, rightCount) */
+    static int survivor(int leftCandidate, long leftCount, int rightCandidate, long rightCount) {
+        if (leftCount == 0) return rightCandidate;
+        if (rightCount == 0 || leftCandidate == rightCandidate) return leftCandidate;
+        return leftCount >= rightCount ? leftCandidate : rightCandidate;
+    }
+
+    /** Votes left for {@link #survivor} after the same merge */
+    static long survivorCount(int leftCandidate, long leftCount, int rightCandidate, long rightCount) {
+        if (leftCount == 0) return rightCount;
+        if (rightCount == 0) return leftCount;
+        if (leftCandidate == rightCandidate) return leftCount + rightCount;
+        return Math.abs(leftCount - rightCount);
+    }
+
+    /**
+     * Merges two Misra-Gries summaries with two counters each, stored as
+     * {candidate1, count1, candidate2, count2}. Every value above n/3 survives.
+     */
+    static long[] mergeCandidatePairs(long[] left, long[] right) {
+        int[] values = new int[4];
+        long[] counts = new long[4];
+        int size = 0;
+        for (long[] side : new long[][]{left, right}) {
+            for (int slot = 0; slot < 4; slot += 2) {
+                if (side[slot + 1] == 0) continue;
+                int value = (int) side[slot];
+                int existing = -1;
+                for (int j = 0; j < size; j++) {
+                    if (values[j] == value) {
+                        existing = j;
+                        break;
+                    }
+                }
+                if (existing >= 0) {
+                    counts[existing] += side[slot + 1];
+                } else {
+                    values[size] = value;
+                    counts[size++] = side[slot + 1];
+                }
+            }
+        }
+
+        // Keep the two heaviest counters, reduced by the third heaviest
+        sortDescending(values, counts, size);
+        long cut = size > 2 ? counts[2] : 0;
+        long[] merged = new long[4];
+        for (int j = 0; j < Math.min(size, 2); j++) {
+            long remaining = counts[j] - cut;
+            if (remaining > 0) {
+                merged[2 * j] = values[j];
+                merged[2 * j + 1] = remaining;
+            }
+        }
+        return merged;
+    }
+
+    /** Boyer-Moore candidate phase over array[from, to), packed as (candidate, count) */
+    static long candidate(int[] array, int from, int to) {
+        int candidate = 0, count = 0;
+        for (int i = from; i < to; i++) {
+            int num = array[i];
+            if (count == 0) {
+                candidate = num;
+                count = 1;
+            } else if (num == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        return pack(candidate, count);
+    }
+
+    /** Two-counter candidate phase over array[from, to) as {candidate1, count1, candidate2, count2} */
+    static long[] candidatePair(int[] array, int from, int to) {
+        int candidate1 = 0, candidate2 = 0;
+        int count1 = 0, count2 = 0;
+        for (int i = from; i < to; i++) {
+            int num = array[i];
+            if (count1 > 0 && num == candidate1) {
+                count1++;
+            } else if (count2 > 0 && num == candidate2) {
+                count2++;
+            } else if (count1 == 0) {
+                candidate1 = num;
+                count1 = 1;
+            } else if (count2 == 0) {
+                candidate2 = num;
+                count2 = 1;
+            } else {
+                count1--;
+                count2--;
+            }
+        }
+        return new long[]{candidate1, count1, candidate2, count2};
+    }
+
+    /** Adds the occurrences of each target in array[from, to) to counts */
+    static void addCounts(int[] array, int from, int to, int[] targets, long[] counts) {
+        ReductionKernels kernels = ReductionKernels.get();
+        for (int t = 0; t < targets.length; t++) {
+            counts[t] += kernels.countEquals(array, from, to, targets[t]);
+        }
+    }
+
+    private static void sortDescending(int[] values, long[] counts, int size) {
+        for (int i = 1; i < size; i++) {
+            int value = values[i];
+            long count = counts[i];
+            int j = i - 1;
+            while (j >= 0 && counts[j] < count) {
+                values[j + 1] = values[j];
+                counts[j + 1] = counts[j];
+                j--;
+            }
+            values[j + 1] = value;
+            counts[j + 1] = count;
+        }
+    }
+
+    /** Boyer-Moore candidate phase over array[from, to), packed as (candidate, count) */
+    static final class CandidateTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        private final int[] array;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        CandidateTask(int[] array, int from, int to, int chunkSize) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= chunkSize) {
+                return candidate(array, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            CandidateTask left = new CandidateTask(array, from, mid, chunkSize);
+            left.fork();
+            long right = new CandidateTask(array, mid, to, chunkSize).compute();
+            return mergeCandidates(left.join(), right);
+        }
+    }
+
+    /** Two-counter candidate phase for the n/3 case over array[from, to) */
+    static final class CandidatePairTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+        private final int[] array;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        CandidatePairTask(int[] array, int from, int to, int chunkSize) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= chunkSize) {
+                return candidatePair(array, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            CandidatePairTask left = new CandidatePairTask(array, from, mid, chunkSize);
+            left.fork();
+            long[] right = new CandidatePairTask(array, mid, to, chunkSize).compute();
+            return mergeCandidatePairs(left.join(), right);
+        }
+    }
+
+    /** Counts occurrences of each target value in array[from, to) */
+    static final class CountTask extends RecursiveTask<long[]> {
+        private static final long serialVersionUID = 1L;
+        private final int[] array;
+        private final int[] targets;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        CountTask(int[] array, int[] targets, int from, int to, int chunkSize) {
+            this.array = array;
+            this.targets = targets;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= chunkSize) {
+                long[] counts = new long[targets.length];
+                addCounts(array, from, to, targets, counts);
+                return counts;
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(array, targets, from, mid, chunkSize);
+            left.fork();
+            long[] right = new CountTask(array, targets, mid, to, chunkSize).compute();
+            long[] counts = left.join();
+            for (int t = 0; t < counts.length; t++) {
+                counts[t] += right[t];
+            }
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package algorithms.array;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Raw little-endian int32 file processed through memory-mapped windows.
+ * Inputs may exceed both the heap and the 2^31 element limit of int[]; every index
+ * is a long and at most one window of the file is mapped at a time.
+ */
+public class MappedIntFile implements Closeable {
+    static final long DEFAULT_WINDOW_BYTES = 1L << 28;
+    private static final int BLOCK_INTS = 1 << 16;
+
+    private final FileChannel channel;
+    private final long length;
+    private final long windowBytes;
+
+    /** Receives consecutive blocks; block[0, count) holds elements starting at offset */
+    public interface BlockVisitor {
+        void visit(int[] block, int count, long offset);
+    }
+
+    MappedIntFile(FileChannel channel, long windowBytes) throws IOException {
+        long bytes = channel.size();
+        if (bytes % Integer.BYTES != 0) {
+            channel.close();
+            throw new IllegalArgumentException("File size " + bytes + " is not a multiple of 4 bytes");
+        }
+        if (windowBytes <= 0 || windowBytes % Integer.BYTES != 0 || windowBytes > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IllegalArgumentException("Invalid window size: " + windowBytes);
+        }
+        this.channel = channel;
+        this.length = bytes / Integer.BYTES;
+        this.windowBytes = windowBytes;
+    }
+
+    public static MappedIntFile open(Path path) throws IOException {
+        return new MappedIntFile(FileChannel.open(path, StandardOpenOption.READ), DEFAULT_WINDOW_BYTES);
+    }
+
+    /** Number of int32 elements in the file */
+    public long length() {
+        return length;
+    }
+
+    public long sizeInBytes() {
+        return length * Integer.BYTES;
+    }
+
+    /**
+     * Streams elements [from, to) through a reusable block, mapping one window at a time.
+     */
+    public void forEachBlock(long from, long to, BlockVisitor visitor) throws IOException {
+        if (from < 0 || to > length || from > to) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d) out of bounds for length %d", from, to, length));
+        }
+        int[] block = new int[BLOCK_INTS];
+        long position = from;
+        while (position < to) {
+            long windowInts = Math.min(to - position, windowBytes / Integer.BYTES);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                    position * Integer.BYTES, windowInts * Integer.BYTES);
+            IntBuffer ints = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            while (ints.hasRemaining()) {
+                int count = Math.min(block.length, ints.remaining());
+                ints.get(block, 0, count);
+                visitor.visit(block, count, position);
+                position += count;
+            }
+        }
+    }
+
+    /**
+     * Two-pass Boyer-Moore over the whole file.
+     * @return majority element if exists, null otherwise
+     */
+    public Integer findMajority() throws IOException {
+        if (length == 0) {
+            return null;
+        }
+        // Candidate and vote count across blocks; the count is a long because files may exceed 2^31 elements
+        int[] candidate = {0};
+        long[] votes = {0};
+        forEachBlock(0, length, (block, count, offset) -> {
+            long packed = MajorityVoteTasks.candidate(block, 0, count);
+            int blockCandidate = MajorityVoteTasks.candidateOf(packed);
+            int blockVotes = MajorityVoteTasks.countOf(packed);
+            int survivor = MajorityVoteTasks.survivor(candidate[0], votes[0], blockCandidate, blockVotes);
+            votes[0] = MajorityVoteTasks.survivorCount(candidate[0], votes[0], blockCandidate, blockVotes);
+            candidate[0] = survivor;
+        });
+
+        int[] targets = {candidate[0]};
+        long[] counts = new long[1];
+        forEachBlock(0, length, (block, count, offset) ->
+                MajorityVoteTasks.addCounts(block, 0, count, targets, counts));
+        return counts[0] > length / 2 ? targets[0] : null;
+    }
+
+    /**
+     * Elements appearing more than n/3 times, in ascending order.
+     */
+    public java.util.List<Integer> findMajorityElements() throws IOException {
+        java.util.List<Integer> result = new java.util.ArrayList<>();
+        if (length == 0) {
+            return result;
+        }
+        long[][] pair = {new long[4]};
+        forEachBlock(0, length, (block, count, offset) ->
+                pair[0] = MajorityVoteTasks.mergeCandidatePairs(pair[0],
+                        MajorityVoteTasks.candidatePair(block, 0, count)));
+
+        int[] targets = pair[0][3] > 0
+                ? new int[]{(int) pair[0][0], (int) pair[0][2]}
+                : new int[]{(int) pair[0][0]};
+        long[] counts = new long[targets.length];
+        forEachBlock(0, length, (block, count, offset) ->
+                MajorityVoteTasks.addCounts(block, 0, count, targets, counts));
+
+        for (int t = 0; t < targets.length; t++) {
+            if (counts[t] > length / 3) result.add(targets[t]);
+        }
+        java.util.Collections.sort(result);
+        return result;
+    }
+
+    /**
+     * Kadane over the whole file; bestSum, bestStart and bestEnd of the returned
+     * summary match the in-memory scan, with long sums and indices.
+     * @return summary of the file, or null if it is empty
+     */
+    public SubarraySummary findMaximumSubarray() throws IOException {
+        return summarize(0, length);
+    }
+
+    /**
+     * Mergeable summary of elements [from, to), or null for an empty range.
+     */
+    public SubarraySummary summarize(long from, long to) throws IOException {
+        SubarraySummary[] summary = {null};
+        forEachBlock(from, to, (block, count, offset) -> {
+            SubarraySummary next = SubarraySummary.of(block, 0, count, offset);
+            summary[0] = summary[0] == null ? next : summary[0].merge(next);
+        });
+        return summary[0];
+    }
+
+    /**
+     * Boyer-Moore candidate round over elements [from, to), or null for an empty range.
+     */
+    public MajorityCandidates majorityCandidates(long from, long to) throws IOException {
+        MajorityCandidates[] candidates = {null};
+        forEachBlock(from, to, (block, count, offset) -> {
+            MajorityCandidates next = MajorityCandidates.of(block, 0, count, offset);
+            candidates[0] = candidates[0] == null ? next : candidates[0].merge(next);
+        });
+        return candidates[0];
+    }
+
+    /**
+     * Exact counts of targets in elements [from, to) for the verification round.
+     */
+    public MajorityCounts countOccurrences(long from, long to, int[] targets) throws IOException {
+        long[] counts = new long[targets.length];
+        forEachBlock(from, to, (block, count, offset) ->
+                MajorityVoteTasks.addCounts(block, 0, count, targets, counts));
+        return new MajorityCounts(from, to - from, targets, counts);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
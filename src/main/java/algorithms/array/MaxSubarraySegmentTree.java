@@ -0,0 +1,202 @@
+package algorithms.array;
+
+/**
+ * Segment tree answering "maximum subarray within [l, r]" in O(log n) with O(log n) point updates.
+ * Nodes live in flat primitive arrays using a pre-order layout (left child at node + 1,
+ * right child after the whole left subtree), so exactly 2n - 1 nodes are stored.
+ * Each node holds the same fields as a {@link SubarraySummary} and merges with the same
+ * tie-breaking, so query indices match {@link KadaneAlgorithm#findMaximumSubarray(int[])}
+ * run on the slice.
+ */
+public class MaxSubarraySegmentTree {
+    private static final int PRESENT = 0, TOTAL = 1, PREFIX = 2, PREFIX_END = 3,
+            SUFFIX = 4, SUFFIX_START = 5, BEST = 6, BEST_START = 7, BEST_END = 8, ACC_SIZE = 9;
+
+    private final int n;
+    private final long[] total;
+    private final long[] prefix;
+    private final long[] suffix;
+    private final long[] best;
+    private final int[] prefixEnd;
+    private final int[] suffixStart;
+    private final int[] bestStart;
+    private final int[] bestEnd;
+
+    public MaxSubarraySegmentTree(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array must not be empty");
+        }
+        this.n = array.length;
+        int nodes = 2 * n - 1;
+        this.total = new long[nodes];
+        this.prefix = new long[nodes];
+        this.suffix = new long[nodes];
+        this.best = new long[nodes];
+        this.prefixEnd = new int[nodes];
+        this.suffixStart = new int[nodes];
+        this.bestStart = new int[nodes];
+        this.bestEnd = new int[nodes];
+        build(array, 0, 0, n - 1);
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /** Approximate heap footprint of the node arrays */
+    public long memoryBytes() {
+        return (long) total.length * (4L * Long.BYTES + 4L * Integer.BYTES);
+    }
+
+    private static int rightChild(int node, int lo, int mid) {
+        return node + 2 * (mid - lo + 1);
+    }
+
+    private void build(int[] array, int node, int lo, int hi) {
+        if (lo == hi) {
+            setLeaf(node, lo, array[lo]);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        build(array, node + 1, lo, mid);
+        build(array, rightChild(node, lo, mid), mid + 1, hi);
+        pull(node, node + 1, rightChild(node, lo, mid));
+    }
+
+    private void setLeaf(int node, int index, int value) {
+        total[node] = prefix[node] = suffix[node] = best[node] = value;
+        prefixEnd[node] = suffixStart[node] = bestStart[node] = bestEnd[node] = index;
+    }
+
+    private void pull(int node, int left, int right) {
+        total[node] = total[left] + total[right];
+
+        if (total[left] + prefix[right] > prefix[left]) {
+            prefix[node] = total[left] + prefix[right];
+            prefixEnd[node] = prefixEnd[right];
+        } else {
+            prefix[node] = prefix[left];
+            prefixEnd[node] = prefixEnd[left];
+        }
+
+        if (total[right] + suffix[left] > suffix[right]) {
+            suffix[node] = total[right] + suffix[left];
+            suffixStart[node] = suffixStart[left];
+        } else {
+            suffix[node] = suffix[right];
+            suffixStart[node] = suffixStart[right];
+        }
+
+        // Prefer the earliest end; at equal ends prefer the later start
+        long sum = best[right];
+        int start = bestStart[right], end = bestEnd[right];
+        long cross = suffix[left] + prefix[right];
+        if (cross > sum || (cross == sum && prefixEnd[right] < end)) {
+            sum = cross;
+            start = suffixStart[left];
+            end = prefixEnd[right];
+        }
+        if (best[left] >= sum) {
+            sum = best[left];
+            start = bestStart[left];
+            end = bestEnd[left];
+        }
+        best[node] = sum;
+        bestStart[node] = start;
+        bestEnd[node] = end;
+    }
+
+    /**
+     * Replaces array[index] with value and repairs the path to the root.
+     */
+    public void update(int index, int value) {
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + n);
+        }
+        update(0, 0, n - 1, index, value);
+    }
+
+    private void update(int node, int lo, int hi, int index, int value) {
+        if (lo == hi) {
+            setLeaf(node, lo, value);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (index <= mid) {
+            update(node + 1, lo, mid, index, value);
+        } else {
+            update(rightChild(node, lo, mid), mid + 1, hi, index, value);
+        }
+        pull(node, node + 1, rightChild(node, lo, mid));
+    }
+
+    /**
+     * Maximum subarray within array[from..to] (inclusive), with global indices.
+     */
+    public SubarraySummary query(int from, int to) {
+        if (from < 0 || to >= n || from > to) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d] out of bounds for length %d", from, to, n));
+        }
+        long[] acc = new long[ACC_SIZE];
+        query(0, 0, n - 1, from, to, acc);
+        return new SubarraySummary(from, to - from + 1, acc[TOTAL],
+                acc[PREFIX], acc[PREFIX_END], acc[SUFFIX], acc[SUFFIX_START],
+                acc[BEST], acc[BEST_START], acc[BEST_END]);
+    }
+
+    private void query(int node, int lo, int hi, int from, int to, long[] acc) {
+        if (from <= lo && hi <= to) {
+            appendNode(acc, node);
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (from <= mid) {
+            query(node + 1, lo, mid, from, to, acc);
+        }
+        if (to > mid) {
+            query(rightChild(node, lo, mid), mid + 1, hi, from, to, acc);
+        }
+    }
+
+    /** Merges a fully covered node onto the right end of the accumulated range */
+    private void appendNode(long[] acc, int node) {
+        if (acc[PRESENT] == 0) {
+            acc[PRESENT] = 1;
+            acc[TOTAL] = total[node];
+            acc[PREFIX] = prefix[node];
+            acc[PREFIX_END] = prefixEnd[node];
+            acc[SUFFIX] = suffix[node];
+            acc[SUFFIX_START] = suffixStart[node];
+            acc[BEST] = best[node];
+            acc[BEST_START] = bestStart[node];
+            acc[BEST_END] = bestEnd[node];
+            return;
+        }
+
+        long sum = best[node], start = bestStart[node], end = bestEnd[node];
+        long cross = acc[SUFFIX] + prefix[node];
+        if (cross > sum || (cross == sum && prefixEnd[node] < end)) {
+            sum = cross;
+            start = acc[SUFFIX_START];
+            end = prefixEnd[node];
+        }
+        if (acc[BEST] < sum) {
+            acc[BEST] = sum;
+            acc[BEST_START] = start;
+            acc[BEST_END] = end;
+        }
+
+        if (acc[TOTAL] + prefix[node] > acc[PREFIX]) {
+            acc[PREFIX] = acc[TOTAL] + prefix[node];
+            acc[PREFIX_END] = prefixEnd[node];
+        }
+        if (total[node] + acc[SUFFIX] > suffix[node]) {
+            acc[SUFFIX] = total[node] + acc[SUFFIX];
+        } else {
+            acc[SUFFIX] = suffix[node];
+            acc[SUFFIX_START] = suffixStart[node];
+        }
+        acc[TOTAL] += total[node];
+    }
+}
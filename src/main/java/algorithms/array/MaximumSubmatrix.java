@@ -0,0 +1,140 @@
+package algorithms.array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Maximum-sum rectangle in a matrix in O(rows^2 * cols) using Kadane as the inner kernel.
+ * For every top row the column sums of rows [top, bottom] are accumulated into one
+ * scratch buffer per task, and Kadane runs over that buffer without allocating.
+ * Top rows are split across a ForkJoinPool.
+ */
+public class MaximumSubmatrix {
+    /** Below this many cell visits (rows^2 * cols / 2) the search stays on the caller thread */
+    public static final long PARALLEL_THRESHOLD = 1L << 20;
+
+    public static class Result {
+        public final long maxSum;
+        public final int top;
+        public final int left;
+        public final int bottom;
+        public final int right;
+
+        public Result(long maxSum, int top, int left, int bottom, int right) {
+            this.maxSum = maxSum;
+            this.top = top;
+            this.left = left;
+            this.bottom = bottom;
+            this.right = right;
+        }
+
+        /** Ties go to the smaller top row, then the smaller bottom row */
+        boolean isBetterThan(Result other) {
+            if (other == null || maxSum != other.maxSum) {
+                return other == null || maxSum > other.maxSum;
+            }
+            return top != other.top ? top < other.top : bottom < other.bottom;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("MaxSum: %d, Rows: [%d, %d], Columns: [%d, %d]",
+                    maxSum, top, bottom, left, right);
+        }
+    }
+
+    public Result findMaximumSubmatrix(int[][] matrix) {
+        return findMaximumSubmatrix(matrix, ForkJoinPool.commonPool());
+    }
+
+    public Result findMaximumSubmatrix(int[][] matrix, ForkJoinPool pool) {
+        if (matrix == null || matrix.length == 0 || matrix[0].length == 0) {
+            return new Result(0, -1, -1, -1, -1);
+        }
+        int cols = matrix[0].length;
+        for (int[] row : matrix) {
+            if (row.length != cols) {
+                throw new IllegalArgumentException("Matrix rows must all have " + cols + " columns");
+            }
+        }
+
+        long work = (long) matrix.length * matrix.length * cols / 2;
+        int grain = work < PARALLEL_THRESHOLD ? matrix.length
+                : Math.max(1, matrix.length / (pool.getParallelism() * 8));
+        return findMaximumSubmatrix(matrix, pool, grain);
+    }
+
+    Result findMaximumSubmatrix(int[][] matrix, ForkJoinPool pool, int grain) {
+        TopRowTask task = new TopRowTask(matrix, 0, matrix.length, grain);
+        return grain >= matrix.length ? task.compute() : pool.invoke(task);
+    }
+
+    private static final class TopRowTask extends RecursiveTask<Result> {
+        private static final long serialVersionUID = 1L;
+        private final int[][] matrix;
+        private final int fromTop;
+        private final int toTop;
+        private final int grain;
+
+        TopRowTask(int[][] matrix, int fromTop, int toTop, int grain) {
+            this.matrix = matrix;
+            this.fromTop = fromTop;
+            this.toTop = toTop;
+            this.grain = grain;
+        }
+
+        @Override
+        protected Result compute() {
+            if (toTop - fromTop > grain) {
+                int mid = (fromTop + toTop) >>> 1;
+                TopRowTask upper = new TopRowTask(matrix, fromTop, mid, grain);
+                upper.fork();
+                Result lower = new TopRowTask(matrix, mid, toTop, grain).compute();
+                Result first = upper.join();
+                return lower.isBetterThan(first) ? lower : first;
+            }
+
+            int rows = matrix.length;
+            int cols = matrix[0].length;
+            long[] columnSums = new long[cols];
+            long bestSum = Long.MIN_VALUE;
+            int bestTop = -1, bestBottom = -1, bestLeft = -1, bestRight = -1;
+
+            for (int top = fromTop; top < toTop; top++) {
+                java.util.Arrays.fill(columnSums, 0L);
+                for (int bottom = top; bottom < rows; bottom++) {
+                    int[] row = matrix[bottom];
+                    for (int c = 0; c < cols; c++) {
+                        columnSums[c] += row[c];
+                    }
+
+                    // Allocation-free Kadane over the compressed columns
+                    long run = columnSums[0], best = run;
+                    int runStart = 0, start = 0, end = 0;
+                    for (int c = 1; c < cols; c++) {
+                        if (run <= 0) {
+                            run = columnSums[c];
+                            runStart = c;
+                        } else {
+                            run += columnSums[c];
+                        }
+                        if (run > best) {
+                            best = run;
+                            start = runStart;
+                            end = c;
+                        }
+                    }
+
+                    if (best > bestSum) {
+                        bestSum = best;
+                        bestTop = top;
+                        bestBottom = bottom;
+                        bestLeft = start;
+                        bestRight = end;
+                    }
+                }
+            }
+            return new Result(bestSum, bestTop, bestLeft, bestBottom, bestRight);
+        }
+    }
+}
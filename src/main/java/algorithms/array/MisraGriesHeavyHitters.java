@@ -0,0 +1,99 @@
+package algorithms.array;
+
+/**
+ * Generalized Boyer-Moore (Misra-Gries) for values occurring more than n/k times.
+ * Keeps at most k-1 counters in a primitive open-addressing table, so memory is O(k)
+ * and nothing is boxed. A full table is decremented as a whole, which happens at most
+ * n/k times, keeping the amortized per-element cost flat as k grows.
+ */
+public class MisraGriesHeavyHitters {
+    private final int k;
+    private final IntCountTable counters;
+    private long seen;
+
+    public MisraGriesHeavyHitters(int k) {
+        if (k < 2) {
+            throw new IllegalArgumentException("k must be at least 2: " + k);
+        }
+        this.k = k;
+        this.counters = new IntCountTable(k);
+    }
+
+    public void accept(int value) {
+        seen++;
+        if (counters.addIfPresent(value, 1) != 0) {
+            return;
+        }
+        if (counters.size() < k - 1) {
+            counters.increment(value);
+        } else {
+            // The new value cancels one occurrence of every tracked value
+            counters.subtractAll(1);
+        }
+    }
+
+    public void accept(int[] chunk) {
+        accept(chunk, 0, chunk.length);
+    }
+
+    public void accept(int[] chunk, int from, int to) {
+        for (int i = from; i < to; i++) {
+            accept(chunk[i]);
+        }
+    }
+
+    /**
+     * Current candidates; every value above seen/k is among them, but not every
+     * candidate is above the threshold.
+     */
+    public int[] candidates() {
+        int[] result = new int[counters.size()];
+        int n = 0;
+        for (int slot = 0; slot < counters.capacity(); slot++) {
+            if (counters.slotCount(slot) != 0) {
+                result[n++] = counters.slotKey(slot);
+            }
+        }
+        return result;
+    }
+
+    public int getK() { return k; }
+    public long getSeen() { return seen; }
+
+    public void reset() {
+        counters.clear();
+        seen = 0;
+    }
+
+    /**
+     * Two-pass exact search: candidate pass, then an exact count of the candidates.
+     * @return values occurring more than n/k times, in ascending order
+     */
+    public java.util.List<Integer> findHeavyHitters(int[] array) {
+        java.util.List<Integer> result = new java.util.ArrayList<>();
+        reset();
+        if (array == null || array.length == 0) {
+            return result;
+        }
+        accept(array);
+
+        int[] candidates = candidates();
+        // Stored counts start at 1 so that 0 can keep meaning "not a candidate"
+        IntCountTable exact = new IntCountTable(candidates.length);
+        for (int candidate : candidates) {
+            exact.increment(candidate);
+        }
+        for (int num : array) {
+            exact.addIfPresent(num, 1);
+        }
+
+        long threshold = array.length / k;
+        for (int candidate : candidates) {
+            if (exact.get(candidate) - 1 > threshold) {
+                result.add(candidate);
+            }
+        }
+        java.util.Collections.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+package algorithms.array;
+
+/**
+ * Index answering "which value is the majority of array[l..r]" in O(log n).
+ * A bottom-up segment tree of packed Boyer-Moore (candidate, count) pairs yields the
+ * only possible majority of a range; its exact frequency is then counted with two
+ * binary searches in that value's sorted position list. Position lists share one
+ * int[] grouped by value, so the whole index is a handful of primitive arrays.
+ */
+public class RangeMajorityIndex {
+    private final int n;
+    private final long[] tree;
+    private final int[] distinctValues;
+    private final int[] groupStart;
+    private final int[] positions;
+
+    public RangeMajorityIndex(int[] array) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException("Array must not be empty");
+        }
+        this.n = array.length;
+
+        // Leaves live at [n, 2n); merging pairs in any grouping keeps a true majority alive
+        this.tree = new long[2 * n];
+        for (int i = 0; i < n; i++) {
+            tree[n + i] = MajorityVoteTasks.pack(array[i], 1);
+        }
+        for (int node = n - 1; node > 0; node--) {
+            tree[node] = MajorityVoteTasks.mergeCandidates(tree[2 * node], tree[2 * node + 1]);
+        }
+
+        // Sorting (value, index) keys groups positions by value in ascending index order
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = ((long) array[i] << 32) | i;
+        }
+        java.util.Arrays.sort(keys);
+
+        this.positions = new int[n];
+        int distinct = 0;
+        for (int i = 0; i < n; i++) {
+            positions[i] = (int) keys[i];
+            if (i == 0 || (int) (keys[i] >> 32) != (int) (keys[i - 1] >> 32)) distinct++;
+        }
+        this.distinctValues = new int[distinct];
+        this.groupStart = new int[distinct + 1];
+        int group = -1;
+        for (int i = 0; i < n; i++) {
+            int value = (int) (keys[i] >> 32);
+            if (group < 0 || distinctValues[group] != value) {
+                distinctValues[++group] = value;
+                groupStart[group] = i;
+            }
+        }
+        groupStart[distinct] = n;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /** Heap footprint of the index arrays in bytes */
+    public long memoryBytes() {
+        return (long) tree.length * Long.BYTES
+                + ((long) positions.length + distinctValues.length + groupStart.length) * Integer.BYTES;
+    }
+
+    /**
+     * Majority element of array[from..to] (inclusive).
+     * @return majority element if exists, null otherwise
+     */
+    public Integer findMajority(int from, int to) {
+        checkRange(from, to);
+        int candidate = MajorityVoteTasks.candidateOf(candidate(from, to));
+        int count = countInRange(candidate, from, to);
+        return count > (to - from + 1) / 2 ? candidate : null;
+    }
+
+    /**
+     * Exact number of occurrences of value in array[from..to] (inclusive).
+     */
+    public int countInRange(int value, int from, int to) {
+        checkRange(from, to);
+        int group = java.util.Arrays.binarySearch(distinctValues, value);
+        if (group < 0) {
+            return 0;
+        }
+        int lo = groupStart[group], hi = groupStart[group + 1];
+        return lowerBound(lo, hi, to + 1) - lowerBound(lo, hi, from);
+    }
+
+    private long candidate(int from, int to) {
+        long packed = 0L;
+        for (int lo = from + n, hi = to + n + 1; lo < hi; lo >>= 1, hi >>= 1) {
+            if ((lo & 1) == 1) packed = MajorityVoteTasks.mergeCandidates(packed, tree[lo++]);
+            if ((hi & 1) == 1) packed = MajorityVoteTasks.mergeCandidates(packed, tree[--hi]);
+        }
+        return packed;
+    }
+
+    /** First position in positions[lo, hi) that is >= index */
+    private int lowerBound(int lo, int hi, int index) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (positions[mid] < index) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to >= n || from > to) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d] out of bounds for length %d", from, to, n));
+        }
+    }
+}
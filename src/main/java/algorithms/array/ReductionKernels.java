@@ -0,0 +1,120 @@
+package algorithms.array;
+
+/**
+ * Data-parallel reduction passes shared by the algorithms: counting equal elements,
+ * summing, and finding the first negative (or non-positive) element.
+ * A Vector API implementation (compiled by the "vector" Maven profile) is selected at
+ * startup when the jdk.incubator.vector module is present; otherwise the scalar loops run.
+ * Set -Dalgorithms.vector=false to force the scalar path.
+ */
+public abstract class ReductionKernels {
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+    static final String VECTOR_IMPLEMENTATION = "algorithms.array.VectorReductionKernels";
+
+    private static final ReductionKernels SCALAR = new Scalar();
+    private static final ReductionKernels SELECTED = select();
+
+    ReductionKernels() {
+    }
+
+    /** Fastest implementation available in this JVM */
+    public static ReductionKernels get() {
+        return SELECTED;
+    }
+
+    public static ReductionKernels scalar() {
+        return SCALAR;
+    }
+
+    public static boolean isVectorized() {
+        return SELECTED != SCALAR;
+    }
+
+    private static ReductionKernels select() {
+        if (!Boolean.parseBoolean(System.getProperty("algorithms.vector", "true"))) {
+            return SCALAR;
+        }
+        if (!ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            return SCALAR;
+        }
+        try {
+            return (ReductionKernels) Class.forName(VECTOR_IMPLEMENTATION)
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Built without the vector profile, or the module cannot be linked
+            return SCALAR;
+        }
+    }
+
+    public abstract String name();
+
+    /** Occurrences of value in array[from, to) */
+    public abstract int countEquals(int[] array, int from, int to, int value);
+
+    /**
+     * Occurrences of first and second in array[from, to) in one pass,
+     * packed as (countOfFirst &lt;&lt; 32) | countOfSecond.
+     */
+    public abstract long countEqualsPair(int[] array, int from, int to, int first, int second);
+
+    /** Sum of array[from, to), widened to long so it cannot overflow */
+    public abstract long sum(int[] array, int from, int to);
+
+    /** Index of the first negative element in array[from, to), or -1 */
+    public abstract int firstNegative(int[] array, int from, int to);
+
+    /** Index of the first element &lt;= 0 in array[from, to), or -1 */
+    public abstract int firstNonPositive(int[] array, int from, int to);
+
+    static final class Scalar extends ReductionKernels {
+        @Override
+        public String name() {
+            return "scalar";
+        }
+
+        @Override
+        public int countEquals(int[] array, int from, int to, int value) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (array[i] == value) count++;
+            }
+            return count;
+        }
+
+        @Override
+        public long countEqualsPair(int[] array, int from, int to, int first, int second) {
+            int count1 = 0, count2 = 0;
+            for (int i = from; i < to; i++) {
+                int num = array[i];
+                if (num == first) count1++;
+                if (num == second) count2++;
+            }
+            return ((long) count1 << 32) | count2;
+        }
+
+        @Override
+        public long sum(int[] array, int from, int to) {
+            long total = 0;
+            for (int i = from; i < to; i++) {
+                total += array[i];
+            }
+            return total;
+        }
+
+        @Override
+        public int firstNegative(int[] array, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (array[i] < 0) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        public int firstNonPositive(int[] array, int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (array[i] <= 0) return i;
+            }
+            return -1;
+        }
+    }
+}
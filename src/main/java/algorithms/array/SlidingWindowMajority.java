@@ -0,0 +1,74 @@
+package algorithms.array;
+
+/**
+ * Exact majority over the last W events of a stream.
+ * Values live in a primitive ring buffer and their frequencies in an open-addressing
+ * table, so each event costs O(1) amortized with no boxing. Only the incoming value
+ * can become a new majority, so one lookup per event keeps the answer current.
+ */
+public class SlidingWindowMajority {
+    private final int[] window;
+    private final IntCountTable counts;
+    private int head;
+    private int size;
+    private boolean hasMajority;
+    private int majority;
+    private long seen;
+
+    public SlidingWindowMajority(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        this.window = new int[windowSize];
+        this.counts = new IntCountTable(windowSize);
+    }
+
+    public void accept(int value) {
+        if (size == window.length) {
+            counts.decrement(window[head]);
+        } else {
+            size++;
+        }
+        window[head] = value;
+        head = head + 1 == window.length ? 0 : head + 1;
+        seen++;
+
+        long incoming = counts.increment(value);
+        if (incoming > size / 2) {
+            majority = value;
+            hasMajority = true;
+        } else if (hasMajority && counts.get(majority) <= size / 2) {
+            hasMajority = false;
+        }
+    }
+
+    public void accept(int[] chunk) {
+        accept(chunk, 0, chunk.length);
+    }
+
+    public void accept(int[] chunk, int from, int to) {
+        for (int i = from; i < to; i++) {
+            accept(chunk[i]);
+        }
+    }
+
+    public boolean hasMajority() { return hasMajority; }
+
+    /**
+     * @return majority of the current window
+     * @throws IllegalStateException if the window has no majority
+     */
+    public int getMajority() {
+        if (!hasMajority) {
+            throw new IllegalStateException("Current window has no majority element");
+        }
+        return majority;
+    }
+
+    /** Exact number of occurrences of value inside the current window */
+    public int countInWindow(int value) { return (int) counts.get(value); }
+
+    public int getWindowSize() { return window.length; }
+    public int getFill() { return size; }
+    public long getSeen() { return seen; }
+}
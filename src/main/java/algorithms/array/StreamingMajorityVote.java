@@ -0,0 +1,58 @@
+package algorithms.array;
+
+/**
+ * Single-pass Boyer-Moore candidate for unbounded streams.
+ * Without a second pass the candidate is only guaranteed to be the majority
+ * if one exists; {@link #getCandidateCount()} is the vote margin, not a frequency.
+ */
+public class StreamingMajorityVote {
+    private int candidate;
+    private long count;
+    private long seen;
+
+    public void accept(int value) {
+        if (count == 0) {
+            candidate = value;
+            count = 1;
+        } else if (value == candidate) {
+            count++;
+        } else {
+            count--;
+        }
+        seen++;
+    }
+
+    public void accept(int[] chunk) {
+        accept(chunk, 0, chunk.length);
+    }
+
+    public void accept(int[] chunk, int from, int to) {
+        int c = candidate;
+        long n = count;
+        for (int i = from; i < to; i++) {
+            int value = chunk[i];
+            if (n == 0) {
+                c = value;
+                n = 1;
+            } else if (value == c) {
+                n++;
+            } else {
+                n--;
+            }
+        }
+        candidate = c;
+        count = n;
+        seen += to - from;
+    }
+
+    public boolean hasCandidate() { return count > 0; }
+    public int getCandidate() { return candidate; }
+    public long getCandidateCount() { return count; }
+    public long getSeen() { return seen; }
+
+    public void reset() {
+        candidate = 0;
+        count = 0;
+        seen = 0;
+    }
+}
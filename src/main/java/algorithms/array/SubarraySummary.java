@@ -0,0 +1,158 @@
+package algorithms.array;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Mergeable summary of a contiguous segment for the maximum subarray problem.
+ * Two summaries of adjacent segments combine into the summary of their union,
+ * so a scan can be split across threads, files or processes and still pick the
+ * same subarray as the sequential Kadane scan: the earliest end index reaching
+ * the maximum, and for that end the latest start index.
+ * Offsets are global and long so segments can come from inputs beyond 2^31 elements.
+ */
+public final class SubarraySummary {
+    public static final int BYTES = 10 * Long.BYTES;
+
+    public final long offset;
+    public final long length;
+    public final long total;
+    public final long bestPrefix;
+    public final long prefixEnd;
+    public final long bestSuffix;
+    public final long suffixStart;
+    public final long bestSum;
+    public final long bestStart;
+    public final long bestEnd;
+
+    public SubarraySummary(long offset, long length, long total,
+                           long bestPrefix, long prefixEnd,
+                           long bestSuffix, long suffixStart,
+                           long bestSum, long bestStart, long bestEnd) {
+        this.offset = offset;
+        this.length = length;
+        this.total = total;
+        this.bestPrefix = bestPrefix;
+        this.prefixEnd = prefixEnd;
+        this.bestSuffix = bestSuffix;
+        this.suffixStart = suffixStart;
+        this.bestSum = bestSum;
+        this.bestStart = bestStart;
+        this.bestEnd = bestEnd;
+    }
+
+    /**
+     * Summarizes array[from, to) whose first element sits at global position offset.
+     */
+    public static SubarraySummary of(int[] array, int from, int to, long offset) {
+        if (from >= to) {
+            throw new IllegalArgumentException("Segment must not be empty");
+        }
+        long total = 0;
+        long bestPrefix = Long.MIN_VALUE, prefixEnd = from;
+        long minBefore = Long.MAX_VALUE, minBeforeIndex = from;
+        long run = 0, runStart = from;
+        long bestSum = Long.MIN_VALUE, bestStart = from, bestEnd = from;
+
+        for (int i = from; i < to; i++) {
+            int value = array[i];
+            // Latest start wins ties for the suffix, so compare with <=
+            if (total <= minBefore) {
+                minBefore = total;
+                minBeforeIndex = i;
+            }
+            total += value;
+            if (total > bestPrefix) {
+                bestPrefix = total;
+                prefixEnd = i;
+            }
+            // Same reset rule as the sequential scan: restart when the run is not positive
+            if (i == from || run <= 0) {
+                run = value;
+                runStart = i;
+            } else {
+                run += value;
+            }
+            if (run > bestSum) {
+                bestSum = run;
+                bestStart = runStart;
+                bestEnd = i;
+            }
+        }
+
+        long shift = offset - from;
+        return new SubarraySummary(offset, to - from, total,
+                bestPrefix, prefixEnd + shift,
+                total - minBefore, minBeforeIndex + shift,
+                bestSum, bestStart + shift, bestEnd + shift);
+    }
+
+    /**
+     * Combines this summary with the summary of the segment that immediately follows it.
+     */
+    public SubarraySummary merge(SubarraySummary right) {
+        if (offset + length != right.offset) {
+            throw new IllegalArgumentException(String.format(
+                    "Segments are not adjacent: [%d, %d) and [%d, %d)",
+                    offset, offset + length, right.offset, right.offset + right.length));
+        }
+
+        long mergedTotal = total + right.total;
+
+        long mergedPrefix = bestPrefix, mergedPrefixEnd = prefixEnd;
+        if (total + right.bestPrefix > bestPrefix) {
+            mergedPrefix = total + right.bestPrefix;
+            mergedPrefixEnd = right.prefixEnd;
+        }
+
+        long mergedSuffix = right.bestSuffix, mergedSuffixStart = right.suffixStart;
+        if (right.total + bestSuffix > right.bestSuffix) {
+            mergedSuffix = right.total + bestSuffix;
+            mergedSuffixStart = suffixStart;
+        }
+
+        // Prefer the earliest end; at equal ends prefer the later start
+        long sum = right.bestSum, start = right.bestStart, end = right.bestEnd;
+        long crossSum = bestSuffix + right.bestPrefix;
+        if (crossSum > sum || (crossSum == sum && right.prefixEnd < end)) {
+            sum = crossSum;
+            start = suffixStart;
+            end = right.prefixEnd;
+        }
+        if (bestSum >= sum) {
+            sum = bestSum;
+            start = bestStart;
+            end = bestEnd;
+        }
+
+        return new SubarraySummary(offset, length + right.length, mergedTotal,
+                mergedPrefix, mergedPrefixEnd, mergedSuffix, mergedSuffixStart,
+                sum, start, end);
+    }
+
+    /** Fixed 80-byte big-endian form, fields in declaration order */
+    public byte[] toBytes() {
+        return ByteBuffer.allocate(BYTES)
+                .putLong(offset).putLong(length).putLong(total)
+                .putLong(bestPrefix).putLong(prefixEnd)
+                .putLong(bestSuffix).putLong(suffixStart)
+                .putLong(bestSum).putLong(bestStart).putLong(bestEnd)
+                .array();
+    }
+
+    public static SubarraySummary fromBytes(byte[] bytes) {
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("Expected " + BYTES + " bytes, got " + bytes.length);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new SubarraySummary(buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Segment [%d, %d) | Total: %d, Prefix: %d@%d, Suffix: %d@%d, Best: %d [%d, %d]",
+                offset, offset + length, total, bestPrefix, prefixEnd,
+                bestSuffix, suffixStart, bestSum, bestStart, bestEnd);
+    }
+}
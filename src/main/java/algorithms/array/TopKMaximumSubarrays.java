@@ -0,0 +1,228 @@
+package algorithms.array;
+
+/**
+ * The k largest-sum non-empty contiguous subarrays in O((n + k) log n) time.
+ * Every end position starts as one heap candidate whose start is the prefix-sum minimum
+ * before it. Popping a candidate splits its start range around the chosen start, and
+ * the minimum of each half comes from a range-argmin tree over the prefix sums.
+ * All storage is primitive arrays: about 24 bytes per heap slot plus 16 bytes per element.
+ * Ties go to the earlier end and then the later start, so the first result matches
+ * {@link KadaneAlgorithm#findMaximumSubarray(int[])}.
+ */
+public class TopKMaximumSubarrays {
+    private final int k;
+
+    public static final class Result {
+        private final long[] sums;
+        private final int[] starts;
+        private final int[] ends;
+        private final int size;
+
+        Result(long[] sums, int[] starts, int[] ends, int size) {
+            this.sums = sums;
+            this.starts = starts;
+            this.ends = ends;
+            this.size = size;
+        }
+
+        /** Number of subarrays found, min(k, n(n+1)/2) */
+        public int size() { return size; }
+        /** Sum of the i-th largest subarray, in descending order */
+        public long getSum(int i) { check(i); return sums[i]; }
+        public int getStartIndex(int i) { check(i); return starts[i]; }
+        public int getEndIndex(int i) { check(i); return ends[i]; }
+
+        private void check(int i) {
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("Index " + i + " out of " + size);
+            }
+        }
+    }
+
+    public TopKMaximumSubarrays(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.k = k;
+    }
+
+    public Result find(int[] array) {
+        int n = array == null ? 0 : array.length;
+        long subarrays = (long) n * (n + 1) / 2;
+        int count = (int) Math.min(k, subarrays);
+        long[] sums = new long[count];
+        int[] starts = new int[count];
+        int[] ends = new int[count];
+        if (count == 0) {
+            return new Result(sums, starts, ends, 0);
+        }
+
+        long[] prefix = new long[n + 1];
+        for (int i = 0; i < n; i++) {
+            prefix[i + 1] = prefix[i] + array[i];
+        }
+        MinIndexTree minimum = new MinIndexTree(prefix);
+        CandidateHeap heap = new CandidateHeap(prefix, n + count);
+
+        // Initial candidate for each end: best start over [0, end] from a running minimum
+        int best = 0;
+        for (int j = 1; j <= n; j++) {
+            if (prefix[j - 1] <= prefix[best]) best = j - 1;
+            heap.append(j, 0, j - 1, best);
+        }
+        heap.heapify();
+
+        for (int r = 0; r < count; r++) {
+            int j = heap.end[0], lo = heap.lo[0], hi = heap.hi[0], start = heap.start[0];
+            sums[r] = heap.key[0];
+            starts[r] = start;
+            ends[r] = j - 1;
+
+            boolean left = lo <= start - 1;
+            boolean right = start + 1 <= hi;
+            if (left) {
+                heap.replaceTop(j, lo, start - 1, minimum.query(lo, start - 1));
+                if (right) heap.push(j, start + 1, hi, minimum.query(start + 1, hi));
+            } else if (right) {
+                heap.replaceTop(j, start + 1, hi, minimum.query(start + 1, hi));
+            } else {
+                heap.removeTop();
+            }
+        }
+        return new Result(sums, starts, ends, count);
+    }
+
+    /** Bottom-up segment tree of prefix indices; ties go to the larger index */
+    private static final class MinIndexTree {
+        private final long[] values;
+        private final int[] tree;
+        private final int leaves;
+
+        MinIndexTree(long[] values) {
+            this.values = values;
+            this.leaves = values.length;
+            this.tree = new int[2 * leaves];
+            for (int i = 0; i < leaves; i++) {
+                tree[leaves + i] = i;
+            }
+            for (int p = leaves - 1; p > 0; p--) {
+                tree[p] = better(tree[2 * p], tree[2 * p + 1]);
+            }
+        }
+
+        private int better(int a, int b) {
+            if (a < 0) return b;
+            if (values[a] != values[b]) return values[a] < values[b] ? a : b;
+            return Math.max(a, b);
+        }
+
+        /** Index of the minimum in [from, to] */
+        int query(int from, int to) {
+            int result = -1;
+            for (int l = from + leaves, r = to + leaves + 1; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) result = better(result, tree[l++]);
+                if ((r & 1) == 1) result = better(result, tree[--r]);
+            }
+            return result;
+        }
+    }
+
+    /** Binary max-heap over parallel primitive arrays, one slot per candidate range */
+    private static final class CandidateHeap {
+        private final long[] prefix;
+        final long[] key;
+        final int[] end;
+        final int[] lo;
+        final int[] hi;
+        final int[] start;
+        private int size;
+
+        CandidateHeap(long[] prefix, int capacity) {
+            this.prefix = prefix;
+            this.key = new long[capacity];
+            this.end = new int[capacity];
+            this.lo = new int[capacity];
+            this.hi = new int[capacity];
+            this.start = new int[capacity];
+        }
+
+        void append(int j, int from, int to, int argmin) {
+            set(size++, j, from, to, argmin);
+        }
+
+        void heapify() {
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        void push(int j, int from, int to, int argmin) {
+            append(j, from, to, argmin);
+            siftUp(size - 1);
+        }
+
+        void replaceTop(int j, int from, int to, int argmin) {
+            set(0, j, from, to, argmin);
+            siftDown(0);
+        }
+
+        void removeTop() {
+            size--;
+            if (size > 0) {
+                move(size, 0);
+                siftDown(0);
+            }
+        }
+
+        private void set(int slot, int j, int from, int to, int argmin) {
+            key[slot] = prefix[j] - prefix[argmin];
+            end[slot] = j;
+            lo[slot] = from;
+            hi[slot] = to;
+            start[slot] = argmin;
+        }
+
+        private void move(int from, int to) {
+            key[to] = key[from];
+            end[to] = end[from];
+            lo[to] = lo[from];
+            hi[to] = hi[from];
+            start[to] = start[from];
+        }
+
+        private void swap(int a, int b) {
+            long k = key[a]; key[a] = key[b]; key[b] = k;
+            int t = end[a]; end[a] = end[b]; end[b] = t;
+            t = lo[a]; lo[a] = lo[b]; lo[b] = t;
+            t = hi[a]; hi[a] = hi[b]; hi[b] = t;
+            t = start[a]; start[a] = start[b]; start[b] = t;
+        }
+
+        /** Larger sum first, then earlier end, then later start */
+        private boolean before(int a, int b) {
+            if (key[a] != key[b]) return key[a] > key[b];
+            if (end[a] != end[b]) return end[a] < end[b];
+            return start[a] > start[b];
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!before(i, parent)) return;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) return;
+                int child = left + 1 < size && before(left + 1, left) ? left + 1 : left;
+                if (!before(child, i)) return;
+                swap(i, child);
+                i = child;
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package algorithms.batch;
+
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.array.KadaneAlgorithm;
+import algorithms.metrics.InstrumentationLevel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the array algorithms over many small arrays on a shared executor.
+ * Consecutive arrays are grouped into tasks of roughly {@code elementsPerTask}
+ * elements so scheduling cost is amortized, each task gets its own algorithm
+ * instance, and results come back in input order.
+ */
+public class ArrayBatchService implements AutoCloseable {
+    public static final int DEFAULT_ELEMENTS_PER_TASK = 1 << 16;
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int elementsPerTask;
+    private volatile BatchStats lastBatch = new BatchStats(0, 0);
+
+    /** Size and duration of one completed batch, published together */
+    public static final class BatchStats {
+        private final long arrays;
+        private final long nanos;
+
+        BatchStats(long arrays, long nanos) {
+            this.arrays = arrays;
+            this.nanos = nanos;
+        }
+
+        public long getArrays() { return arrays; }
+        public long getNanos() { return nanos; }
+
+        /** Throughput including grouping and result collection */
+        public double getArraysPerSecond() {
+            return nanos == 0 ? 0 : arrays / (nanos / 1e9);
+        }
+    }
+
+    public ArrayBatchService(ExecutorService executor, int elementsPerTask) {
+        this(executor, elementsPerTask, false);
+    }
+
+    private ArrayBatchService(ExecutorService executor, int elementsPerTask, boolean ownsExecutor) {
+        if (elementsPerTask <= 0) {
+            throw new IllegalArgumentException("elementsPerTask must be positive: " + elementsPerTask);
+        }
+        this.executor = executor;
+        this.elementsPerTask = elementsPerTask;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    /** Service backed by its own fixed pool of platform threads */
+    public static ArrayBatchService withPlatformThreads(int threads) {
+        return new ArrayBatchService(Executors.newFixedThreadPool(threads), DEFAULT_ELEMENTS_PER_TASK, true);
+    }
+
+    /**
+     * Service backed by a virtual-thread-per-task executor when the JDK provides one (21+),
+     * otherwise by a fixed pool sized to the available processors.
+     */
+    public static ArrayBatchService withVirtualThreads() {
+        return new ArrayBatchService(newVirtualThreadExecutor(), DEFAULT_ELEMENTS_PER_TASK, true);
+    }
+
+    /** True if {@link #withVirtualThreads()} gets real virtual threads on this JDK */
+    public static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            // Looked up reflectively so the project still compiles for Java 11
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    /** A null row gets an empty result, like a null array passed to the algorithm directly */
+    public List<KadaneAlgorithm.Bounds> findMaximumSubarrays(int[][] arrays) {
+        return process(Arrays.asList(arrays).iterator(), kadaneWorkers());
+    }
+
+    /**
+     * @param source supplies arrays until it returns null
+     */
+    public List<KadaneAlgorithm.Bounds> findMaximumSubarrays(Supplier<int[]> source) {
+        return process(source, kadaneWorkers());
+    }
+
+    private static Supplier<Function<int[], KadaneAlgorithm.Bounds>> kadaneWorkers() {
+        return () -> {
+            KadaneAlgorithm kadane = new KadaneAlgorithm(InstrumentationLevel.OFF);
+            return array -> {
+                KadaneAlgorithm.Bounds bounds = new KadaneAlgorithm.Bounds();
+                kadane.findMaximumSubarray(array, bounds);
+                return bounds;
+            };
+        };
+    }
+
+    /** A null row gets an empty result, like a null array passed to the algorithm directly */
+    public List<BoyerMooreMajorityVote.Majority> findMajorities(int[][] arrays) {
+        return process(Arrays.asList(arrays).iterator(), majorityWorkers());
+    }
+
+    /**
+     * @param source supplies arrays until it returns null
+     */
+    public List<BoyerMooreMajorityVote.Majority> findMajorities(Supplier<int[]> source) {
+        return process(source, majorityWorkers());
+    }
+
+    private static Supplier<Function<int[], BoyerMooreMajorityVote.Majority>> majorityWorkers() {
+        return () -> {
+            BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote(InstrumentationLevel.OFF);
+            return array -> {
+                BoyerMooreMajorityVote.Majority majority = new BoyerMooreMajorityVote.Majority();
+                bm.findMajority(array, majority);
+                return majority;
+            };
+        };
+    }
+
+    /**
+     * Groups arrays from source into tasks and applies a per-task worker to each array.
+     * @param workerFactory creates one worker per task, so workers may hold unshared state
+     * @return one result per array, in input order
+     */
+    public <R> List<R> process(Supplier<int[]> source, Supplier<? extends Function<int[], R>> workerFactory) {
+        return process(untilNull(source), workerFactory);
+    }
+
+    /** Same as {@link #process(Supplier, Supplier)}, but every element is an array, null included */
+    private <R> List<R> process(Iterator<int[]> source, Supplier<? extends Function<int[], R>> workerFactory) {
+        long start = System.nanoTime();
+        List<Future<List<R>>> futures = new ArrayList<>();
+        long arrays = 0;
+
+        List<int[]> group = new ArrayList<>();
+        long groupElements = 0;
+        while (source.hasNext()) {
+            int[] array = source.next();
+            group.add(array);
+            groupElements += array == null ? 0 : array.length;
+            arrays++;
+            if (groupElements >= elementsPerTask) {
+                futures.add(submit(group, workerFactory));
+                group = new ArrayList<>();
+                groupElements = 0;
+            }
+        }
+        if (!group.isEmpty()) {
+            futures.add(submit(group, workerFactory));
+        }
+
+        List<R> results = new ArrayList<>((int) arrays);
+        try {
+            for (Future<List<R>> future : futures) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll(futures);
+            throw new IllegalStateException("Interrupted while waiting for batch results", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            throw new IllegalStateException("Batch task failed", e.getCause());
+        }
+
+        lastBatch = new BatchStats(arrays, System.nanoTime() - start);
+        return results;
+    }
+
+    private <R> Future<List<R>> submit(List<int[]> group, Supplier<? extends Function<int[], R>> workerFactory) {
+        return executor.submit(() -> {
+            Function<int[], R> worker = workerFactory.get();
+            List<R> results = new ArrayList<>(group.size());
+            for (int[] array : group) {
+                results.add(worker.apply(array));
+            }
+            return results;
+        });
+    }
+
+    private static void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static Iterator<int[]> untilNull(Supplier<int[]> source) {
+        return new Iterator<int[]>() {
+            private int[] next = source.get();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public int[] next() {
+                if (next == null) throw new NoSuchElementException();
+                int[] current = next;
+                next = source.get();
+                return current;
+            }
+        };
+    }
+
+    /** Most recent batch; size and time always belong to the same batch */
+    public BatchStats getLastBatch() { return lastBatch; }
+
+    /** Throughput of the most recent batch, including grouping and result collection */
+    public double getLastArraysPerSecond() { return lastBatch.getArraysPerSecond(); }
+
+    public long getLastBatchSize() { return lastBatch.getArrays(); }
+    public long getLastBatchNanos() { return lastBatch.getNanos(); }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+}
@@ -2,17 +2,58 @@ package algorithms.cli;
 
 import algorithms.array.BoyerMooreMajorityVote;
 import algorithms.array.KadaneAlgorithm;
+import algorithms.metrics.CsvMetricsFormat;
+import algorithms.metrics.FileMetricsSink;
+import algorithms.metrics.MetricsExporter;
+import algorithms.metrics.MetricsRegistry;
+import algorithms.metrics.PerformanceTracker;
+import algorithms.metrics.PrometheusHttpExporter;
+import algorithms.workload.WorkloadGenerator;
 import java.util.*;
 import java.io.*;
+import java.nio.file.Paths;
 
 public class AdvancedBenchmarkRunner {
+    private static final WorkloadGenerator GENERATOR = new WorkloadGenerator(42);
     private static final int[] SIZES = {100, 1000, 10000};
-    private static final String CSV_HEADER = "Algorithm,Size,Time(ns),Comparisons,ArrayAccesses,MemoryAllocations\n";
+    private static final String CSV_HEADER =
+            "Algorithm,Size,Time(ns),Comparisons,ArrayAccesses,MemoryAllocations,AllocatedBytes,GcCount,GcTime(ms)\n";
+    private static final String DEFAULT_OUTPUT = System.getProperty("user.dir") + "/src/docs/performance_metrics.csv";
 
+    private static String csvPath = DEFAULT_OUTPUT;
+
+    /**
+     * Options: --output file (CSV report), --metrics-file file (append cumulative metrics
+     * every second), --metrics-port port (serve Prometheus text at /metrics while running).
+     */
     public static void main(String[] args) {
         System.out.println("=== Advanced Linear Algorithms Benchmark ===");
 
+        String metricsFile = null;
+        int metricsPort = -1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--output": csvPath = args[++i]; break;
+                case "--metrics-file": metricsFile = args[++i]; break;
+                case "--metrics-port": metricsPort = Integer.parseInt(args[++i]); break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+            }
+        }
+
+        List<MetricsExporter> exporters = new ArrayList<>();
         try {
+            if (metricsFile != null) {
+                exporters.add(new FileMetricsSink(MetricsRegistry.global(), Paths.get(metricsFile),
+                        new CsvMetricsFormat(), 1000));
+            }
+            if (metricsPort >= 0) {
+                PrometheusHttpExporter http = new PrometheusHttpExporter(MetricsRegistry.global(), metricsPort);
+                exporters.add(http);
+                System.out.println("Serving metrics at http://localhost:" + http.getPort() + "/metrics");
+            }
+
             benchmarkBoyerMooreComprehensive();
             benchmarkKadaneComprehensive();
             generateCSVReports();
@@ -22,34 +63,38 @@ public class AdvancedBenchmarkRunner {
         } catch (Exception e) {
             System.err.println("Error during benchmark: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            exporters.forEach(MetricsExporter::close);
         }
     }
 
+    private static void register(PerformanceTracker tracker) {
+        tracker.setMetricsRegistry(MetricsRegistry.global());
+    }
+
     private static void generateCSVReports() {
-        // Берем путь к текущему классу (src рядом)
-        String basePath = System.getProperty("user.dir") + "/src/docs";
-        File docsDir = new File(basePath);
-        if (!docsDir.exists()) {
-            docsDir.mkdirs();
+        File parent = new File(csvPath).getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
         }
 
-        String csvPath = basePath + "/performance_metrics.csv";
-
         try (PrintWriter writer = new PrintWriter(new FileWriter(csvPath))) {
             writer.write(CSV_HEADER);
 
             // Boyer-Moore metrics
             BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+            register(bm.getTracker());
             for (int size : SIZES) {
-                int[] array = generateArrayWithMajority(size);
+                int[] array = GENERATOR.withMajority(size, 100);
                 bm.findMajority(array);
                 writer.write("BoyerMoore," + size + "," + bm.getTracker().getMetricsCSV() + "\n");
             }
 
             // Kadane metrics
             KadaneAlgorithm kadane = new KadaneAlgorithm();
+            register(kadane.getTracker());
             for (int size : SIZES) {
-                int[] array = generateMixedArray(size);
+                int[] array = GENERATOR.uniform(size, -100, 100);
                 kadane.findMaximumSubarray(array);
                 writer.write("Kadane," + size + "," + kadane.getTracker().getMetricsCSV() + "\n");
             }
@@ -72,15 +117,16 @@ public class AdvancedBenchmarkRunner {
 
         // Simple text output
         System.out.println("Execution times collected and saved to CSV.");
-        System.out.println("Check docs/performance_metrics.csv for data.");
+        System.out.println("Check " + csvPath + " for data.");
     }
 
     private static void benchmarkBoyerMooreComprehensive() {
         System.out.println("\nBoyer-Moore Majority Vote Benchmark:");
         BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        register(bm.getTracker());
 
         for (int size : SIZES) {
-            int[] array = generateArrayWithMajority(size);
+            int[] array = GENERATOR.withMajority(size, 100);
             Integer result = bm.findMajority(array);
             System.out.printf("Size: %,7d | Majority: %s%n",
                     size, result != null ? result : "None");
@@ -90,43 +136,12 @@ public class AdvancedBenchmarkRunner {
     private static void benchmarkKadaneComprehensive() {
         System.out.println("\nKadane's Algorithm Benchmark:");
         KadaneAlgorithm kadane = new KadaneAlgorithm();
+        register(kadane.getTracker());
 
         for (int size : SIZES) {
-            int[] array = generateMixedArray(size);
+            int[] array = GENERATOR.uniform(size, -100, 100);
             KadaneAlgorithm.Result result = kadane.findMaximumSubarray(array);
             System.out.printf("Size: %,7d | MaxSum: %,d%n", size, result.maxSum);
         }
     }
-
-    private static int[] generateArrayWithMajority(int size) {
-        int[] array = new int[size];
-        Random random = new Random();
-        int majorityElement = random.nextInt(100);
-
-        int majorityCount = size / 2 + 1;
-        for (int i = 0; i < majorityCount; i++) {
-            array[i] = majorityElement;
-        }
-        for (int i = majorityCount; i < size; i++) {
-            array[i] = random.nextInt(100);
-        }
-
-        // Shuffle
-        for (int i = 0; i < size; i++) {
-            int j = random.nextInt(size);
-            int temp = array[i];
-            array[i] = array[j];
-            array[j] = temp;
-        }
-        return array;
-    }
-
-    private static int[] generateMixedArray(int size) {
-        int[] array = new int[size];
-        Random random = new Random();
-        for (int i = 0; i < size; i++) {
-            array[i] = random.nextInt(200) - 100;
-        }
-        return array;
-    }
 }
\ No newline at end of file
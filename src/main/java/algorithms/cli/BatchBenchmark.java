@@ -0,0 +1,78 @@
+package algorithms.cli;
+
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.array.KadaneAlgorithm;
+import algorithms.batch.ArrayBatchService;
+import algorithms.metrics.InstrumentationLevel;
+import algorithms.workload.WorkloadGenerator;
+import java.util.*;
+
+/**
+ * Arrays per second for many small arrays: caller thread versus the batch service.
+ */
+public class BatchBenchmark {
+    private static final int ARRAYS = 20_000;
+    private static final int MIN_SIZE = 100;
+    private static final int MAX_SIZE = 10_000;
+    private static final int ROUNDS = 5;
+    private static final long SEED = 42;
+
+    public static void main(String[] args) {
+        System.out.println("=== Batch Execution Benchmark ===");
+        System.out.printf("Arrays: %,d | Sizes: %,d-%,d | Virtual threads: %s%n%n",
+                ARRAYS, MIN_SIZE, MAX_SIZE, ArrayBatchService.virtualThreadsAvailable() ? "yes" : "no (fallback pool)");
+
+        int[][] arrays = generateArrays();
+
+        KadaneAlgorithm kadane = new KadaneAlgorithm(InstrumentationLevel.OFF);
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote(InstrumentationLevel.OFF);
+        double serial = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            // Same primitive-result API and per-array result objects as the service's workers
+            long start = System.nanoTime();
+            List<KadaneAlgorithm.Bounds> sums = new ArrayList<>(arrays.length);
+            for (int[] array : arrays) {
+                KadaneAlgorithm.Bounds bounds = new KadaneAlgorithm.Bounds();
+                kadane.findMaximumSubarray(array, bounds);
+                sums.add(bounds);
+            }
+            List<BoyerMooreMajorityVote.Majority> majorities = new ArrayList<>(arrays.length);
+            for (int[] array : arrays) {
+                BoyerMooreMajorityVote.Majority majority = new BoyerMooreMajorityVote.Majority();
+                bm.findMajority(array, majority);
+                majorities.add(majority);
+            }
+            serial = Math.max(serial, ARRAYS / ((System.nanoTime() - start) / 1e9));
+        }
+        System.out.printf("  %-18s | %,14.0f arrays/s%n", "caller thread", serial);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        try (ArrayBatchService platform = ArrayBatchService.withPlatformThreads(cores)) {
+            report("platform threads", platform, arrays);
+        }
+        try (ArrayBatchService virtual = ArrayBatchService.withVirtualThreads()) {
+            report("virtual threads", virtual, arrays);
+        }
+    }
+
+    private static void report(String label, ArrayBatchService service, int[][] arrays) {
+        double best = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            service.findMaximumSubarrays(arrays);
+            service.findMajorities(arrays);
+            best = Math.max(best, arrays.length / ((System.nanoTime() - start) / 1e9));
+        }
+        System.out.printf("  %-18s | %,14.0f arrays/s%n", label, best);
+    }
+
+    /** Uniform arrays of seeded random sizes; array a comes from its own seed, SEED + 1 + a */
+    private static int[][] generateArrays() {
+        int[] sizes = new WorkloadGenerator(SEED).uniform(ARRAYS, MIN_SIZE, MAX_SIZE + 1);
+        int[][] arrays = new int[ARRAYS][];
+        for (int a = 0; a < ARRAYS; a++) {
+            arrays[a] = new WorkloadGenerator(SEED + 1 + a).generate(WorkloadGenerator.Distribution.UNIFORM, sizes[a]);
+        }
+        return arrays;
+    }
+}
@@ -2,9 +2,11 @@ package algorithms.cli;
 
 import algorithms.array.BoyerMooreMajorityVote;
 import algorithms.array.KadaneAlgorithm;
+import algorithms.workload.WorkloadGenerator;
 import java.util.*;
 
 public class BenchmarkRunner {
+    private static final WorkloadGenerator GENERATOR = new WorkloadGenerator(42);
     private static final int[] SIZES = {100, 1000, 10000, 100000};
 
     public static void main(String[] args) {
@@ -20,7 +22,7 @@ public class BenchmarkRunner {
         BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
 
         for (int size : SIZES) {
-            int[] array = generateArrayWithMajority(size);
+            int[] array = GENERATOR.withMajority(size, 100);
             long startTime = System.nanoTime();
             Integer result = bm.findMajority(array);
             long time = System.nanoTime() - startTime;
@@ -37,7 +39,7 @@ public class BenchmarkRunner {
         KadaneAlgorithm kadane = new KadaneAlgorithm();
 
         for (int size : SIZES) {
-            int[] array = generateMixedArray(size);
+            int[] array = GENERATOR.uniform(size, -100, 100);
             long startTime = System.nanoTime();
             KadaneAlgorithm.Result result = kadane.findMaximumSubarray(array);
             long time = System.nanoTime() - startTime;
@@ -53,7 +55,7 @@ public class BenchmarkRunner {
         System.out.println("\n=== Algorithm Comparison ===");
 
         for (int size : SIZES) {
-            int[] array = generateRandomArray(size);
+            int[] array = GENERATOR.uniform(size, 0, 1000);
 
             // Boyer-Moore
             BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
@@ -71,49 +73,4 @@ public class BenchmarkRunner {
                     size, time1, time2);
         }
     }
-
-    private static int[] generateArrayWithMajority(int size) {
-        int[] array = new int[size];
-        Random random = new Random();
-        int majorityElement = random.nextInt(100);
-
-        // Ensure majority element appears more than n/2 times
-        int majorityCount = size / 2 + 1;
-        for (int i = 0; i < majorityCount; i++) {
-            array[i] = majorityElement;
-        }
-
-        // Fill rest with random elements
-        for (int i = majorityCount; i < size; i++) {
-            array[i] = random.nextInt(100);
-        }
-
-        // Shuffle array
-        for (int i = 0; i < size; i++) {
-            int j = random.nextInt(size);
-            int temp = array[i];
-            array[i] = array[j];
-            array[j] = temp;
-        }
-
-        return array;
-    }
-
-    private static int[] generateMixedArray(int size) {
-        int[] array = new int[size];
-        Random random = new Random();
-        for (int i = 0; i < size; i++) {
-            array[i] = random.nextInt(200) - 100; // -100 to 100
-        }
-        return array;
-    }
-
-    private static int[] generateRandomArray(int size) {
-        int[] array = new int[size];
-        Random random = new Random();
-        for (int i = 0; i < size; i++) {
-            array[i] = random.nextInt(1000);
-        }
-        return array;
-    }
 }
\ No newline at end of file
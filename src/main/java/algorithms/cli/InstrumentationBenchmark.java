@@ -0,0 +1,112 @@
+package algorithms.cli;
+
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.array.KadaneAlgorithm;
+import algorithms.metrics.InstrumentationLevel;
+import algorithms.workload.WorkloadGenerator;
+
+/**
+ * Compares each instrumentation level against a hand-written bare loop.
+ * The library side uses the allocation-free out-parameter APIs and the bare loops do the
+ * same bookkeeping (indices, candidate), so the gap is the instrumentation alone.
+ * Every variant is warmed up first so the numbers reflect JIT-compiled code.
+ */
+public class InstrumentationBenchmark {
+    private static final WorkloadGenerator GENERATOR = new WorkloadGenerator(42);
+    private static final int SIZE = 1_000_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURED_ROUNDS = 50;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        System.out.println("=== Instrumentation Overhead Benchmark ===\n");
+
+        int[] mixed = GENERATOR.uniform(SIZE, -100, 100);
+        int[] majority = GENERATOR.withMajority(SIZE, 100);
+
+        System.out.println("Kadane's Algorithm:");
+        int[] range = new int[3];
+        report("bare loop", measure(() -> {
+            bareKadane(mixed, range);
+            sink = range[0] + range[1] + range[2];
+        }));
+        KadaneAlgorithm.Bounds bounds = new KadaneAlgorithm.Bounds();
+        for (InstrumentationLevel level : InstrumentationLevel.values()) {
+            KadaneAlgorithm kadane = new KadaneAlgorithm(level);
+            report(level.name(), measure(() -> {
+                kadane.findMaximumSubarray(mixed, bounds);
+                sink = bounds.getMaxSum() + bounds.getStartIndex() + bounds.getEndIndex();
+            }));
+        }
+
+        System.out.println("\nBoyer-Moore Majority Vote:");
+        report("bare loop", measure(() -> sink = bareBoyerMoore(majority)));
+        BoyerMooreMajorityVote.Majority vote = new BoyerMooreMajorityVote.Majority();
+        for (InstrumentationLevel level : InstrumentationLevel.values()) {
+            BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote(level);
+            report(level.name(), measure(() -> sink = bm.findMajority(majority, vote) ? vote.getValue() : -1));
+        }
+    }
+
+    private static long measure(Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    private static void report(String label, long nanos) {
+        System.out.printf("  %-10s | Best: %,12d ns | %.2f ns/element%n",
+                label, nanos, (double) nanos / SIZE);
+    }
+
+    /** Same loop and tie-breaking as KadaneAlgorithm; writes {maxSum, start, end} into out */
+    private static void bareKadane(int[] array, int[] out) {
+        int maxSoFar = array[0];
+        int maxEndingHere = array[0];
+        int start = 0, end = 0;
+        int tempStart = 0;
+        for (int i = 1; i < array.length; i++) {
+            if (maxEndingHere + array[i] > array[i]) {
+                maxEndingHere += array[i];
+            } else {
+                maxEndingHere = array[i];
+                tempStart = i;
+            }
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+        out[0] = maxSoFar;
+        out[1] = start;
+        out[2] = end;
+    }
+
+    private static int bareBoyerMoore(int[] array) {
+        int candidate = 0, count = 0;
+        for (int num : array) {
+            if (count == 0) {
+                candidate = num;
+                count = 1;
+            } else if (num == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        count = 0;
+        for (int num : array) {
+            if (num == candidate) count++;
+        }
+        return count > array.length / 2 ? candidate : -1;
+    }
+}
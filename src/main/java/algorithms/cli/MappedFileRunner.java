@@ -0,0 +1,79 @@
+package algorithms.cli;
+
+import algorithms.array.MappedIntFile;
+import algorithms.array.SubarraySummary;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Runs both algorithms over a raw little-endian int32 file through memory-mapped windows.
+ *
+ * Usage:
+ *   java algorithms.cli.MappedFileRunner &lt;file&gt;
+ *   java algorithms.cli.MappedFileRunner --generate &lt;file&gt; &lt;elements&gt;
+ */
+public class MappedFileRunner {
+    private static final double BYTES_PER_GB = 1e9;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && args[0].equals("--generate")) {
+            generateFile(Paths.get(args[1]), Long.parseLong(args[2]));
+            return;
+        }
+        if (args.length != 1) {
+            System.err.println("Usage: MappedFileRunner <file> | --generate <file> <elements>");
+            System.exit(2);
+        }
+
+        Path path = Paths.get(args[0]);
+        System.out.println("=== Memory-Mapped File Benchmark ===");
+
+        try (MappedIntFile file = MappedIntFile.open(path)) {
+            System.out.printf("File: %s | Elements: %,d | Size: %.2f GB%n%n",
+                    path, file.length(), file.sizeInBytes() / BYTES_PER_GB);
+
+            long start = System.nanoTime();
+            Integer majority = file.findMajority();
+            report("findMajority", file, System.nanoTime() - start,
+                    "Majority: " + (majority != null ? majority : "None"));
+
+            start = System.nanoTime();
+            List<Integer> majorities = file.findMajorityElements();
+            report("findMajorityElements", file, System.nanoTime() - start, "n/3 Elements: " + majorities);
+
+            start = System.nanoTime();
+            SubarraySummary summary = file.findMaximumSubarray();
+            report("findMaximumSubarray", file, System.nanoTime() - start, summary == null
+                    ? "Empty file"
+                    : String.format("MaxSum: %,d, Range: [%d, %d]", summary.bestSum, summary.bestStart, summary.bestEnd));
+        }
+    }
+
+    private static void report(String name, MappedIntFile file, long nanos, String answer) {
+        System.out.printf("%-22s | Time: %,14d ns | Throughput: %6.2f GB/s | %s%n",
+                name, nanos, file.sizeInBytes() / BYTES_PER_GB / (nanos / 1e9), answer);
+    }
+
+    private static void generateFile(Path path, long elements) throws IOException {
+        Random random = new Random(42);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (long i = 0; i < elements; i++) {
+                buffer.putInt(random.nextInt(200) - 100);
+                if (!buffer.hasRemaining()) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) channel.write(buffer);
+                    buffer.clear();
+                }
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+        System.out.printf("Generated %,d elements into %s%n", elements, path);
+    }
+}
@@ -0,0 +1,109 @@
+package algorithms.cli;
+
+import algorithms.array.KadaneAlgorithm;
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.array.MaxSubarraySegmentTree;
+import algorithms.array.RangeMajorityIndex;
+import algorithms.workload.WorkloadGenerator;
+import java.util.*;
+
+/**
+ * Build time versus query time for the range query indexes,
+ * compared with re-running the linear algorithm on a copied slice.
+ */
+public class RangeQueryBenchmark {
+    private static final WorkloadGenerator GENERATOR = new WorkloadGenerator(42);
+    private static final int[] SIZES = {10_000, 100_000, 1_000_000};
+    private static final int QUERIES = 10_000;
+    private static final int NAIVE_QUERIES = 200;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        System.out.println("=== Range Query Index Benchmark ===");
+        benchmarkMaxSubarray();
+        benchmarkMajority();
+    }
+
+    private static void benchmarkMaxSubarray() {
+        System.out.println("\nRange Maximum Subarray (segment tree):");
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+
+        for (int size : SIZES) {
+            int[] array = GENERATOR.uniform(size, -100, 100);
+            int[][] ranges = generateRanges(size, QUERIES);
+
+            long start = System.nanoTime();
+            MaxSubarraySegmentTree tree = new MaxSubarraySegmentTree(array);
+            long buildTime = System.nanoTime() - start;
+
+            // Warm up the query path before timing it
+            for (int[] range : ranges) sink = tree.query(range[0], range[1]).bestSum;
+            start = System.nanoTime();
+            for (int[] range : ranges) sink = tree.query(range[0], range[1]).bestSum;
+            long queryTime = (System.nanoTime() - start) / QUERIES;
+
+            start = System.nanoTime();
+            for (int q = 0; q < NAIVE_QUERIES; q++) {
+                int[] slice = Arrays.copyOfRange(array, ranges[q][0], ranges[q][1] + 1);
+                sink = kadane.findMaximumSubarray(slice).maxSum;
+            }
+            long naiveTime = (System.nanoTime() - start) / NAIVE_QUERIES;
+
+            System.out.printf("  Size: %,9d | Build: %,12d ns | Query: %,8d ns | Naive: %,10d ns | Memory: %,d bytes%n",
+                    size, buildTime, queryTime, naiveTime, tree.memoryBytes());
+        }
+    }
+
+    private static void benchmarkMajority() {
+        System.out.println("\nRange Majority (candidate tree + position lists):");
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+
+        for (int size : SIZES) {
+            int[] array = generateArrayWithRuns(size);
+            int[][] ranges = generateRanges(size, QUERIES);
+
+            long start = System.nanoTime();
+            RangeMajorityIndex index = new RangeMajorityIndex(array);
+            long buildTime = System.nanoTime() - start;
+
+            for (int[] range : ranges) index.findMajority(range[0], range[1]);
+            start = System.nanoTime();
+            int found = 0;
+            for (int[] range : ranges) {
+                if (index.findMajority(range[0], range[1]) != null) found++;
+            }
+            long queryTime = (System.nanoTime() - start) / QUERIES;
+
+            start = System.nanoTime();
+            for (int q = 0; q < NAIVE_QUERIES; q++) {
+                int[] slice = Arrays.copyOfRange(array, ranges[q][0], ranges[q][1] + 1);
+                bm.findMajority(slice);
+            }
+            long naiveTime = (System.nanoTime() - start) / NAIVE_QUERIES;
+
+            System.out.printf("  Size: %,9d | Build: %,12d ns | Query: %,8d ns | Naive: %,10d ns | Memory: %,d bytes | Hits: %d%n",
+                    size, buildTime, queryTime, naiveTime, index.memoryBytes(), found);
+        }
+    }
+
+    private static int[][] generateRanges(int size, int count) {
+        Random random = new Random(7);
+        int[][] ranges = new int[count][];
+        for (int q = 0; q < count; q++) {
+            int from = random.nextInt(size);
+            int to = from + random.nextInt(size - from);
+            ranges[q] = new int[]{from, to};
+        }
+        return ranges;
+    }
+
+    private static int[] generateArrayWithRuns(int size) {
+        int[] array = new int[size];
+        Random random = new Random(42);
+        for (int i = 0; i < size; i++) {
+            array[i] = random.nextInt(4) != 0 ? (i / 1000) % 10 : random.nextInt(100);
+        }
+        return array;
+    }
+}
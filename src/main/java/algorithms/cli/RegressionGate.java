@@ -0,0 +1,153 @@
+package algorithms.cli;
+
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.array.KadaneAlgorithm;
+import algorithms.metrics.InstrumentationLevel;
+import algorithms.workload.WorkloadGenerator;
+import algorithms.workload.WorkloadGenerator.Distribution;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Performance regression gate: measures a fixed set of seeded workloads (or reads
+ * a results file) and compares throughput against a stored baseline.
+ * Exits with status 1 when any benchmark drops more than the tolerance below its baseline.
+ *
+ * Usage:
+ *   java algorithms.cli.RegressionGate --record baseline.csv
+ *   java algorithms.cli.RegressionGate --baseline baseline.csv [--tolerance 0.10] [--results current.csv]
+ */
+public class RegressionGate {
+    private static final long SEED = 42;
+    private static final int SIZE = 1_000_000;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 30;
+    private static final double DEFAULT_TOLERANCE = 0.10;
+    private static final String CSV_HEADER = "Benchmark,OpsPerSecond";
+
+    private static volatile long sink;
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        if (options.containsKey("--record")) {
+            Map<String, Double> results = runSuite();
+            writeResults(Paths.get(options.get("--record")), results);
+            System.out.println("Baseline recorded: " + options.get("--record"));
+            return;
+        }
+        if (!options.containsKey("--baseline")) {
+            System.err.println("Usage: RegressionGate --record <file> | --baseline <file> [--tolerance 0.10] [--results <file>]");
+            System.exit(2);
+        }
+
+        double tolerance = Double.parseDouble(options.getOrDefault("--tolerance", String.valueOf(DEFAULT_TOLERANCE)));
+        Map<String, Double> baseline = readResults(Paths.get(options.get("--baseline")));
+        Map<String, Double> current = options.containsKey("--results")
+                ? readResults(Paths.get(options.get("--results")))
+                : runSuite();
+
+        List<String> regressions = compare(baseline, current, tolerance);
+        if (regressions.isEmpty()) {
+            System.out.printf("=== Regression gate PASSED (tolerance %.0f%%) ===%n", tolerance * 100);
+        } else {
+            System.out.printf("=== Regression gate FAILED (tolerance %.0f%%) ===%n", tolerance * 100);
+            regressions.forEach(System.out::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return one line per benchmark that regressed beyond the tolerance or is missing
+     */
+    static List<String> compare(Map<String, Double> baseline, Map<String, Double> current, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : baseline.entrySet()) {
+            String name = entry.getKey();
+            Double measured = current.get(name);
+            if (measured == null) {
+                regressions.add("  " + name + ": missing from current results");
+                continue;
+            }
+            double change = measured / entry.getValue() - 1;
+            System.out.printf("  %-44s | Baseline: %,16.1f | Current: %,16.1f | Change: %+6.1f%%%n",
+                    name, entry.getValue(), measured, change * 100);
+            if (change < -tolerance) {
+                regressions.add(String.format("  %s: %.1f%% below baseline", name, -change * 100));
+            }
+        }
+        return regressions;
+    }
+
+    private static Map<String, Double> runSuite() {
+        System.out.println("=== Running regression suite ===");
+        WorkloadGenerator generator = new WorkloadGenerator(SEED);
+        int[] uniform = generator.generate(Distribution.UNIFORM, SIZE);
+        int[] majority = generator.generate(Distribution.MAJORITY, SIZE);
+        int[] adversarial = generator.generate(Distribution.ADVERSARIAL_MAJORITY, SIZE);
+        int[] zipfian = generator.generate(Distribution.ZIPFIAN, SIZE);
+
+        KadaneAlgorithm kadane = new KadaneAlgorithm(InstrumentationLevel.OFF);
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote(InstrumentationLevel.OFF);
+
+        Map<String, Double> results = new LinkedHashMap<>();
+        results.put("kadane.findMaximumSubarray.uniform",
+                opsPerSecond(() -> sink = kadane.findMaximumSubarray(uniform).maxSum));
+        results.put("kadane.findMaximumCircularSubarray.uniform",
+                opsPerSecond(() -> sink = kadane.findMaximumCircularSubarray(uniform).maxSum));
+        results.put("kadane.findMaximumSubarrayOptimized.uniform",
+                opsPerSecond(() -> sink = kadane.findMaximumSubarrayOptimized(uniform).maxSum));
+        results.put("boyerMoore.findMajority.majority",
+                opsPerSecond(() -> sink = bm.findMajority(majority)));
+        results.put("boyerMoore.findMajority.adversarial",
+                opsPerSecond(() -> sink = bm.findMajority(adversarial)));
+        results.put("boyerMoore.findMajorityElements.zipfian",
+                opsPerSecond(() -> sink = bm.findMajorityElements(zipfian).size()));
+        return results;
+    }
+
+    private static double opsPerSecond(Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return 1e9 / best;
+    }
+
+    static Map<String, Double> readResults(Path path) throws IOException {
+        Map<String, Double> results = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(path)) {
+            if (line.isBlank() || line.startsWith("#") || line.equals(CSV_HEADER)) continue;
+            String[] fields = line.split(",");
+            if (fields.length != 2) {
+                throw new IOException("Malformed line in " + path + ": " + line);
+            }
+            try {
+                results.put(fields[0].trim(), Double.parseDouble(fields[1].trim()));
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed line in " + path + ": " + line, e);
+            }
+        }
+        return results;
+    }
+
+    private static void writeResults(Path path, Map<String, Double> results) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(path))) {
+            writer.println(CSV_HEADER);
+            results.forEach((name, ops) -> writer.printf(Locale.ROOT, "%s,%.3f%n", name, ops));
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i], args[i + 1]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,172 @@
+package algorithms.cli;
+
+import algorithms.array.MajorityCandidates;
+import algorithms.array.MajorityCounts;
+import algorithms.array.MappedIntFile;
+import algorithms.array.SubarraySummary;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Sharded runs over one int32 file across several processes, with exact results.
+ * Each process summarizes its element range into a shard file; the shard files are
+ * then merged into the global maximum subarray and majority candidates. A second
+ * verify round counts the merged candidates per shard so the majority answers are exact.
+ *
+ * Usage:
+ *   java algorithms.cli.ShardMergeRunner summarize &lt;data&gt; &lt;from&gt; &lt;to&gt; &lt;shard-out&gt;
+ *   java algorithms.cli.ShardMergeRunner verify &lt;data&gt; &lt;from&gt; &lt;to&gt; &lt;counts-out&gt; &lt;shard files...&gt;
+ *   java algorithms.cli.ShardMergeRunner merge &lt;shard and counts files...&gt;
+ */
+public class ShardMergeRunner {
+    private static final int MAGIC = 0x53485244; // "SHRD"
+    private static final int VERSION = 1;
+    private static final byte KADANE = 'K';
+    private static final byte CANDIDATES = 'C';
+    private static final byte COUNTS = 'V';
+
+    public static void main(String[] args) throws IOException {
+        if (args.length >= 5 && args[0].equals("summarize")) {
+            summarize(Paths.get(args[1]), Long.parseLong(args[2]), Long.parseLong(args[3]), Paths.get(args[4]));
+        } else if (args.length >= 6 && args[0].equals("verify")) {
+            verify(Paths.get(args[1]), Long.parseLong(args[2]), Long.parseLong(args[3]), Paths.get(args[4]),
+                    paths(args, 5));
+        } else if (args.length >= 2 && args[0].equals("merge")) {
+            merge(paths(args, 1));
+        } else {
+            System.err.println("Usage: ShardMergeRunner summarize <data> <from> <to> <shard-out>");
+            System.err.println("       ShardMergeRunner verify <data> <from> <to> <counts-out> <shard files...>");
+            System.err.println("       ShardMergeRunner merge <shard and counts files...>");
+            System.exit(2);
+        }
+    }
+
+    private static List<Path> paths(String[] args, int from) {
+        List<Path> result = new ArrayList<>();
+        for (int i = from; i < args.length; i++) {
+            result.add(Paths.get(args[i]));
+        }
+        return result;
+    }
+
+    static void summarize(Path data, long from, long to, Path out) throws IOException {
+        try (MappedIntFile file = MappedIntFile.open(data)) {
+            SubarraySummary summary = file.summarize(from, to);
+            MajorityCandidates candidates = file.majorityCandidates(from, to);
+            if (summary == null) {
+                throw new IllegalArgumentException("Shard [" + from + ", " + to + ") is empty");
+            }
+            Map<Byte, byte[]> records = new LinkedHashMap<>();
+            records.put(KADANE, summary.toBytes());
+            records.put(CANDIDATES, candidates.toBytes());
+            write(out, records);
+            System.out.printf("Shard [%d, %d) -> %s%n", from, to, out);
+        }
+    }
+
+    static void verify(Path data, long from, long to, Path out, List<Path> shards) throws IOException {
+        int[] targets = mergeCandidates(readAll(shards)).targets();
+        try (MappedIntFile file = MappedIntFile.open(data)) {
+            MajorityCounts counts = file.countOccurrences(from, to, targets);
+            write(out, Collections.singletonMap(COUNTS, counts.toBytes()));
+            System.out.printf("Counted %s in [%d, %d) -> %s%n", Arrays.toString(targets), from, to, out);
+        }
+    }
+
+    static void merge(List<Path> files) throws IOException {
+        List<Map<Byte, byte[]>> records = readAll(files);
+
+        List<SubarraySummary> summaries = new ArrayList<>();
+        for (Map<Byte, byte[]> record : records) {
+            if (record.containsKey(KADANE)) summaries.add(SubarraySummary.fromBytes(record.get(KADANE)));
+        }
+        if (summaries.isEmpty()) {
+            throw new IllegalArgumentException("No shard summaries among the inputs");
+        }
+        summaries.sort(Comparator.comparingLong(s -> s.offset));
+        SubarraySummary global = summaries.get(0);
+        for (int i = 1; i < summaries.size(); i++) {
+            global = global.merge(summaries.get(i));
+        }
+        System.out.printf("Elements: [%d, %d) from %d shards%n", global.offset, global.offset + global.length,
+                summaries.size());
+        System.out.printf("Maximum subarray: %,d [%d, %d]%n", global.bestSum, global.bestStart, global.bestEnd);
+
+        MajorityCandidates candidates = mergeCandidates(records);
+        List<MajorityCounts> shardCounts = new ArrayList<>();
+        for (Map<Byte, byte[]> record : records) {
+            if (record.containsKey(COUNTS)) shardCounts.add(MajorityCounts.fromBytes(record.get(COUNTS)));
+        }
+        if (shardCounts.isEmpty()) {
+            System.out.println("Majority candidates: " + Arrays.toString(candidates.targets())
+                    + " (run verify on every shard for exact answers)");
+            return;
+        }
+        shardCounts.sort(Comparator.comparingLong(c -> c.offset));
+        MajorityCounts counts = shardCounts.get(0);
+        for (int i = 1; i < shardCounts.size(); i++) {
+            counts = counts.merge(shardCounts.get(i));
+        }
+        if (counts.offset != global.offset || counts.length != global.length
+                || !Arrays.equals(counts.getValues(), candidates.targets())) {
+            throw new IllegalArgumentException("Counts do not cover the same shards and candidates as the summaries");
+        }
+        Integer majority = counts.majority();
+        System.out.println("Majority: " + (majority != null ? majority : "None"));
+        System.out.println("n/3 Elements: " + counts.majorityElements());
+    }
+
+    /** Candidates merge left to right, whatever order the shard files were given in */
+    private static MajorityCandidates mergeCandidates(List<Map<Byte, byte[]>> records) {
+        List<MajorityCandidates> shards = new ArrayList<>();
+        for (Map<Byte, byte[]> record : records) {
+            if (record.containsKey(CANDIDATES)) shards.add(MajorityCandidates.fromBytes(record.get(CANDIDATES)));
+        }
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("No majority candidates among the inputs");
+        }
+        shards.sort(Comparator.comparingLong(c -> c.offset));
+        MajorityCandidates merged = shards.get(0);
+        for (int i = 1; i < shards.size(); i++) {
+            merged = merged.merge(shards.get(i));
+        }
+        return merged;
+    }
+
+    private static void write(Path out, Map<Byte, byte[]> records) throws IOException {
+        try (DataOutputStream stream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(out)))) {
+            stream.writeInt(MAGIC);
+            stream.writeInt(VERSION);
+            for (Map.Entry<Byte, byte[]> record : records.entrySet()) {
+                stream.writeByte(record.getKey());
+                stream.writeInt(record.getValue().length);
+                stream.write(record.getValue());
+            }
+        }
+    }
+
+    private static List<Map<Byte, byte[]>> readAll(List<Path> files) throws IOException {
+        List<Map<Byte, byte[]>> result = new ArrayList<>();
+        for (Path file : files) {
+            result.add(read(file));
+        }
+        return result;
+    }
+
+    private static Map<Byte, byte[]> read(Path file) throws IOException {
+        Map<Byte, byte[]> records = new LinkedHashMap<>();
+        try (DataInputStream stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (stream.readInt() != MAGIC || stream.readInt() != VERSION) {
+                throw new IOException("Not a shard file: " + file);
+            }
+            int tag;
+            while ((tag = stream.read()) != -1) {
+                byte[] payload = new byte[stream.readInt()];
+                stream.readFully(payload);
+                records.put((byte) tag, payload);
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,44 @@
+package algorithms.cli;
+
+import algorithms.array.KadaneAlgorithm;
+import algorithms.array.TopKMaximumSubarrays;
+import algorithms.workload.WorkloadGenerator;
+
+/**
+ * Time to find the k largest subarrays of a 10^7 element array for k from 1 to 10^5,
+ * next to a single Kadane pass. Needs about 600 MB of heap (-Xmx1g).
+ */
+public class TopKBenchmark {
+    private static final WorkloadGenerator GENERATOR = new WorkloadGenerator(42);
+    private static final int SIZE = 10_000_000;
+    private static final int[] K_VALUES = {1, 10, 100, 1_000, 10_000, 100_000};
+    private static final int RUNS = 3;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : SIZE;
+        System.out.println("=== Top-k Maximum Subarrays Benchmark ===");
+        int[] array = GENERATOR.uniform(size, -100, 100);
+
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        sink = kadane.findMaximumSubarray(array).maxSum;
+        long start = System.nanoTime();
+        sink = kadane.findMaximumSubarray(array).maxSum;
+        System.out.printf("Size: %,d | Kadane (k=1 reference): %,d ms%n", size, (System.nanoTime() - start) / 1_000_000);
+
+        for (int k : K_VALUES) {
+            TopKMaximumSubarrays topK = new TopKMaximumSubarrays(k);
+            long best = Long.MAX_VALUE;
+            TopKMaximumSubarrays.Result result = null;
+            for (int run = 0; run < RUNS; run++) {
+                start = System.nanoTime();
+                result = topK.find(array);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            sink = result.getSum(result.size() - 1);
+            System.out.printf("k: %,7d | Time: %,6d ms | Best: %,d | k-th: %,d%n",
+                    k, best / 1_000_000, result.getSum(0), result.getSum(result.size() - 1));
+        }
+    }
+}
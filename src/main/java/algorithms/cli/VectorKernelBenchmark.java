@@ -0,0 +1,64 @@
+package algorithms.cli;
+
+import algorithms.array.ReductionKernels;
+import java.util.*;
+
+/**
+ * Per-kernel speedup of the Vector API reductions over the scalar loops.
+ *
+ * Run with: java --add-modules jdk.incubator.vector algorithms.cli.VectorKernelBenchmark
+ */
+public class VectorKernelBenchmark {
+    private static final int SIZE = 4_000_000;
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int MEASURED_ROUNDS = 50;
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        ReductionKernels scalar = ReductionKernels.scalar();
+        ReductionKernels vector = ReductionKernels.get();
+
+        System.out.println("=== Vector Kernel Benchmark ===");
+        System.out.printf("Host: %s %s | Selected kernels: %s%n%n",
+                System.getProperty("os.name"), System.getProperty("os.arch"), vector.name());
+        if (!ReductionKernels.isVectorized()) {
+            System.out.println("Vector API not available; run with --add-modules jdk.incubator.vector");
+        }
+
+        int[] array = new int[SIZE];
+        Random random = new Random(42);
+        for (int i = 0; i < SIZE; i++) {
+            array[i] = random.nextInt(1000);
+        }
+
+        compare("countEquals", () -> sink = scalar.countEquals(array, 0, SIZE, 7),
+                () -> sink = vector.countEquals(array, 0, SIZE, 7));
+        compare("countEqualsPair", () -> sink = scalar.countEqualsPair(array, 0, SIZE, 7, 11),
+                () -> sink = vector.countEqualsPair(array, 0, SIZE, 7, 11));
+        compare("sum", () -> sink = scalar.sum(array, 0, SIZE),
+                () -> sink = vector.sum(array, 0, SIZE));
+        compare("firstNegative", () -> sink = scalar.firstNegative(array, 0, SIZE),
+                () -> sink = vector.firstNegative(array, 0, SIZE));
+    }
+
+    private static void compare(String kernel, Runnable scalar, Runnable vector) {
+        long scalarTime = measure(scalar);
+        long vectorTime = measure(vector);
+        System.out.printf("  %-16s | Scalar: %,10d ns | Vector: %,10d ns | Speedup: %5.2fx%n",
+                kernel, scalarTime, vectorTime, (double) scalarTime / vectorTime);
+    }
+
+    private static long measure(Runnable body) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            body.run();
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            long start = System.nanoTime();
+            body.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,61 @@
+package algorithms.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event emitted for each tracked algorithm call. The event duration is the call's
+ * elapsed time. Only calls of at least 1 ms are committed by default, so an always-on
+ * recording does not log every small call; lower the threshold in a .jfc file or on the
+ * command line, e.g. {@code -XX:StartFlightRecording:algorithms.AlgorithmCall#threshold=0ms}.
+ */
+@Name(AlgorithmCallEvent.NAME)
+@Label("Algorithm Call")
+@Description("One call of a tracked array algorithm")
+@Category("Algorithms")
+@StackTrace(false)
+@Threshold("1 ms")
+final class AlgorithmCallEvent extends Event {
+    static final String NAME = "algorithms.AlgorithmCall";
+    static final EventType TYPE = EventType.getEventType(AlgorithmCallEvent.class);
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Method")
+    String method;
+
+    @Label("Engine")
+    String engine;
+
+    @Label("Input Length")
+    int inputLength;
+
+    @Label("Comparisons")
+    long comparisons;
+
+    @Label("Array Accesses")
+    long arrayAccesses;
+
+    @Label("Memory Allocations")
+    long memoryAllocations;
+
+    @Label("Allocated Bytes")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("GC Collections")
+    long gcCount;
+
+    @Label("GC Time")
+    @Timespan(Timespan.MILLISECONDS)
+    long gcTime;
+}
@@ -0,0 +1,28 @@
+package algorithms.metrics;
+
+import java.io.IOException;
+
+/**
+ * One CSV row per method and snapshot, suited to an append-only file
+ */
+public final class CsvMetricsFormat implements MetricsFormat {
+
+    @Override
+    public String header() {
+        return "Timestamp,Algorithm,Method,Calls,Comparisons,ArrayAccesses,MemoryAllocations,"
+                + "AllocatedBytes,GcCount,GcTime(ms),TotalTime(ns),P50(ns),P90(ns),P99(ns),P999(ns)\n";
+    }
+
+    @Override
+    public void write(MetricsRegistry registry, long timestampMillis, Appendable out) throws IOException {
+        for (MethodMetrics metrics : registry.getMethods()) {
+            LatencyHistogram.Snapshot latency = metrics.getLatency();
+            out.append(String.format("%d,%s,%s,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d,%d%n",
+                    timestampMillis, metrics.getAlgorithmName(), metrics.getMethodName(), metrics.getCalls(),
+                    metrics.getComparisons(), metrics.getArrayAccesses(), metrics.getMemoryAllocations(),
+                    metrics.getAllocatedBytes(), metrics.getGcCount(), metrics.getGcTimeMillis(),
+                    metrics.getTotalNanos(), latency.percentile(0.5), latency.percentile(0.9),
+                    latency.percentile(0.99), latency.percentile(0.999)));
+        }
+    }
+}
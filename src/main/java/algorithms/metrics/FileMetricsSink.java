@@ -0,0 +1,76 @@
+package algorithms.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically appends a registry snapshot to a file on a background daemon thread.
+ * The file is only ever appended to; the format's header is written when it is new or empty.
+ */
+public final class FileMetricsSink implements MetricsExporter {
+    private final MetricsRegistry registry;
+    private final Path path;
+    private final MetricsFormat format;
+    private final ScheduledExecutorService scheduler;
+
+    public FileMetricsSink(MetricsRegistry registry, Path path, MetricsFormat format, long periodMillis) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("periodMillis must be positive");
+        }
+        this.registry = registry;
+        this.path = path;
+        this.format = format;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-file-sink");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::flushQuietly, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** Appends one snapshot now */
+    public synchronized void flush() {
+        try {
+            boolean empty = !Files.exists(path) || Files.size(path) == 0;
+            StringBuilder text = new StringBuilder();
+            if (empty && format.header() != null) {
+                text.append(format.header());
+            }
+            format.write(registry, System.currentTimeMillis(), text);
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.append(text);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (UncheckedIOException e) {
+            System.err.println("Metrics sink failed for " + path + ": " + e.getCause().getMessage());
+        }
+    }
+
+    /** Stops the schedule and appends a final snapshot */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
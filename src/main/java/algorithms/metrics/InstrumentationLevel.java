@@ -0,0 +1,23 @@
+package algorithms.metrics;
+
+/**
+ * How much work a {@link PerformanceTracker} does while an algorithm runs.
+ * Algorithms batch their counter updates once per pass, so even FULL does not
+ * touch the tracker inside the element loop.
+ */
+public enum InstrumentationLevel {
+    /** No counters and no timing; every record call is a no-op. */
+    OFF,
+    /** Per-pass counters only, no System.nanoTime() calls. */
+    COUNTERS,
+    /** Counters plus execution time (default). */
+    FULL;
+
+    public boolean countsEnabled() {
+        return this != OFF;
+    }
+
+    public boolean timingEnabled() {
+        return this == FULL;
+    }
+}
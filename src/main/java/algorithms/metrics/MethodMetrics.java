@@ -0,0 +1,81 @@
+package algorithms.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cumulative, thread-safe metrics for one algorithm method.
+ * Counters are LongAdders, so concurrent callers update separate cells.
+ */
+public final class MethodMetrics {
+    private final String algorithmName;
+    private final String methodName;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder arrayAccesses = new LongAdder();
+    private final LongAdder memoryAllocations = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder gcCount = new LongAdder();
+    private final LongAdder gcTimeMillis = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    MethodMetrics(String algorithmName, String methodName) {
+        this.algorithmName = algorithmName;
+        this.methodName = methodName;
+    }
+
+    /**
+     * @param nanos elapsed time, or a negative value if the call was not timed
+     */
+    public void record(long nanos, long comparisonCount, long accessCount, long allocationCount) {
+        calls.increment();
+        if (nanos >= 0) {
+            totalNanos.add(nanos);
+            latency.record(nanos);
+        }
+        if (comparisonCount != 0) comparisons.add(comparisonCount);
+        if (accessCount != 0) arrayAccesses.add(accessCount);
+        if (allocationCount != 0) memoryAllocations.add(allocationCount);
+    }
+
+    /**
+     * Adds one call's allocation and GC overlap; a negative byte count means unsupported and is skipped.
+     */
+    public void recordResources(long bytes, long collections, long collectionMillis) {
+        if (bytes > 0) allocatedBytes.add(bytes);
+        if (collections != 0) gcCount.add(collections);
+        if (collectionMillis != 0) gcTimeMillis.add(collectionMillis);
+    }
+
+    public String getAlgorithmName() { return algorithmName; }
+    public String getMethodName() { return methodName; }
+    public long getCalls() { return calls.sum(); }
+    public long getTotalNanos() { return totalNanos.sum(); }
+    public long getComparisons() { return comparisons.sum(); }
+    public long getArrayAccesses() { return arrayAccesses.sum(); }
+    public long getMemoryAllocations() { return memoryAllocations.sum(); }
+    public long getAllocatedBytes() { return allocatedBytes.sum(); }
+    public long getGcCount() { return gcCount.sum(); }
+    public long getGcTimeMillis() { return gcTimeMillis.sum(); }
+    public LatencyHistogram.Snapshot getLatency() { return latency.snapshot(); }
+
+    void reset() {
+        calls.reset();
+        totalNanos.reset();
+        comparisons.reset();
+        arrayAccesses.reset();
+        memoryAllocations.reset();
+        allocatedBytes.reset();
+        gcCount.reset();
+        gcTimeMillis.reset();
+        latency.reset();
+    }
+
+    @Override
+    public String toString() {
+        LatencyHistogram.Snapshot snapshot = latency.snapshot();
+        return String.format("%s.%s: calls=%d, p50=%dns, p90=%dns, p99=%dns, p999=%dns",
+                algorithmName, methodName, getCalls(), snapshot.percentile(0.5), snapshot.percentile(0.9),
+                snapshot.percentile(0.99), snapshot.percentile(0.999));
+    }
+}
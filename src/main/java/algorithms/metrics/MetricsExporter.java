@@ -0,0 +1,10 @@
+package algorithms.metrics;
+
+/**
+ * Publishes a {@link MetricsRegistry} from its own thread, never from the algorithm's.
+ */
+public interface MetricsExporter extends AutoCloseable {
+
+    @Override
+    void close();
+}
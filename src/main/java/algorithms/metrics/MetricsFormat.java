@@ -0,0 +1,16 @@
+package algorithms.metrics;
+
+import java.io.IOException;
+
+/**
+ * Renders a registry snapshot for an exporter
+ */
+public interface MetricsFormat {
+
+    /** Written once at the start of a new file, or null if the format has none */
+    default String header() {
+        return null;
+    }
+
+    void write(MetricsRegistry registry, long timestampMillis, Appendable out) throws IOException;
+}
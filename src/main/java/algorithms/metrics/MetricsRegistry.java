@@ -0,0 +1,41 @@
+package algorithms.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cumulative metrics for every (algorithm, method) pair, safe to update from any thread.
+ * Attach it with {@link PerformanceTracker#setMetricsRegistry(MetricsRegistry)}; every call
+ * that finishes on that tracker then adds its latency and counters here.
+ */
+public final class MetricsRegistry {
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final ConcurrentHashMap<String, MethodMetrics> methods = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public MethodMetrics method(String algorithmName, String methodName) {
+        String key = algorithmName + "." + methodName;
+        MethodMetrics metrics = methods.get(key);
+        if (metrics == null) {
+            metrics = methods.computeIfAbsent(key, k -> new MethodMetrics(algorithmName, methodName));
+        }
+        return metrics;
+    }
+
+    /** All registered methods sorted by algorithm and method name */
+    public List<MethodMetrics> getMethods() {
+        List<MethodMetrics> result = new ArrayList<>(methods.values());
+        result.sort(Comparator.comparing(MethodMetrics::getAlgorithmName).thenComparing(MethodMetrics::getMethodName));
+        return result;
+    }
+
+    public void reset() {
+        methods.values().forEach(MethodMetrics::reset);
+    }
+}
@@ -1,68 +1,237 @@
 package algorithms.metrics;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
- * Tracks performance metrics for algorithm analysis
+ * Tracks performance metrics for algorithm analysis.
+ * Per-call values are kept per thread, so getters report the last call made by the
+ * calling thread even when one algorithm instance is shared. Cumulative totals across
+ * threads go to an optional {@link MetricsRegistry}, and each call is also emitted as a
+ * JFR event while a recording has {@code algorithms.AlgorithmCall} enabled.
+ * At FULL level a call also measures the bytes allocated by the calling thread and the
+ * GC collections (and their time) that completed while it ran.
+ * Note: on HotSpot, the first FULL-level call turns on thread allocation accounting for the
+ * whole JVM ({@code ThreadMXBean.setThreadAllocatedMemoryEnabled(true)}) if it was off.
  */
 public class PerformanceTracker {
     private final String algorithmName;
-    private long startTime;
-    private long endTime;
-    private long comparisons;
-    private long swaps;
-    private long arrayAccesses;
-    private long memoryAllocations;
+    private InstrumentationLevel level;
+    private boolean counting;
+    private boolean timing;
+    private volatile RegistryBinding binding;
+    private final ThreadLocal<CallState> state = ThreadLocal.withInitial(CallState::new);
+
+    private static final class CallState {
+        String method;
+        AlgorithmCallEvent event;
+        long startTime;
+        long endTime;
+        long comparisons;
+        long swaps;
+        long arrayAccesses;
+        long memoryAllocations;
+        long startAllocatedBytes;
+        long allocatedBytes;
+        long startGcCount;
+        long gcCount;
+        long startGcTime;
+        long gcTime;
+    }
+
+    /** Attached registry with this tracker's MethodMetrics handles, looked up without building keys */
+    private static final class RegistryBinding {
+        final MetricsRegistry registry;
+        final ConcurrentHashMap<String, MethodMetrics> handles = new ConcurrentHashMap<>();
+
+        RegistryBinding(MetricsRegistry registry) {
+            this.registry = registry;
+        }
+    }
 
     public PerformanceTracker(String algorithmName) {
+        this(algorithmName, InstrumentationLevel.FULL);
+    }
+
+    public PerformanceTracker(String algorithmName, InstrumentationLevel level) {
         this.algorithmName = algorithmName;
-        resetCounters();
+        setLevel(level);
+    }
+
+    public void setLevel(InstrumentationLevel level) {
+        if (level == null) {
+            throw new IllegalArgumentException("level must not be null");
+        }
+        this.level = level;
+        this.counting = level.countsEnabled();
+        this.timing = level.timingEnabled();
+    }
+
+    public InstrumentationLevel getLevel() { return level; }
+
+    /**
+     * Publishes every finished call to the registry; null detaches.
+     * Calls are only published when the level counts, and latency only when it times.
+     */
+    public void setMetricsRegistry(MetricsRegistry registry) {
+        this.binding = registry == null ? null : new RegistryBinding(registry);
+    }
+
+    public MetricsRegistry getMetricsRegistry() {
+        RegistryBinding current = binding;
+        return current == null ? null : current.registry;
+    }
+
+    private MethodMetrics handle(RegistryBinding target, String method) {
+        MethodMetrics metrics = target.handles.get(method);
+        if (metrics == null) {
+            metrics = target.handles.computeIfAbsent(method, m -> target.registry.method(algorithmName, m));
+        }
+        return metrics;
+    }
+
+    /** Resets the calling thread's counters and starts timing a call of the named method */
+    public void beginCall(String method) {
+        beginCall(method, 0, null);
+    }
+
+    /**
+     * Same as {@link #beginCall(String)}, also describing the input and the engine
+     * (e.g. "sequential" or "parallel") for the JFR event.
+     */
+    public void beginCall(String method, int inputLength, String engine) {
+        if (counting) {
+            CallState s = state.get();
+            reset(s);
+            s.method = method;
+            if (timing) start(s);
+        }
+        if (AlgorithmCallEvent.TYPE.isEnabled()) {
+            AlgorithmCallEvent event = new AlgorithmCallEvent();
+            event.algorithm = algorithmName;
+            event.method = method;
+            event.engine = engine;
+            event.inputLength = inputLength;
+            state.get().event = event;
+            event.begin();
+        }
+    }
+
+    /** Replaces the engine reported for the calling thread's current call, e.g. after a fallback */
+    public void setEngine(String engine) {
+        if (AlgorithmCallEvent.TYPE.isEnabled()) {
+            AlgorithmCallEvent event = state.get().event;
+            if (event != null) event.engine = engine;
+        }
     }
 
     public void startTimer() {
-        this.startTime = System.nanoTime();
+        if (timing) start(state.get());
+    }
+
+    private static void start(CallState s) {
+        s.startAllocatedBytes = ResourceProbe.threadAllocatedBytes();
+        s.startGcCount = ResourceProbe.gcCount();
+        s.startGcTime = ResourceProbe.gcTimeMillis();
+        s.startTime = System.nanoTime();
+    }
+
+    private static void stop(CallState s) {
+        s.endTime = System.nanoTime();
+        long allocated = ResourceProbe.threadAllocatedBytes();
+        s.allocatedBytes = allocated < 0 ? -1 : allocated - s.startAllocatedBytes;
+        s.gcCount = ResourceProbe.gcCount() - s.startGcCount;
+        s.gcTime = ResourceProbe.gcTimeMillis() - s.startGcTime;
     }
 
     public void stopTimer() {
-        this.endTime = System.nanoTime();
+        if (counting) {
+            CallState s = state.get();
+            if (timing) stop(s);
+            RegistryBinding target = binding;
+            if (target != null && s.method != null) {
+                MethodMetrics metrics = handle(target, s.method);
+                metrics.record(timing ? s.endTime - s.startTime : -1,
+                        s.comparisons, s.arrayAccesses, s.memoryAllocations);
+                if (timing) metrics.recordResources(s.allocatedBytes, s.gcCount, s.gcTime);
+                s.method = null;
+            }
+        }
+        if (AlgorithmCallEvent.TYPE.isEnabled()) {
+            commitEvent(state.get());
+        }
+    }
+
+    private static void commitEvent(CallState s) {
+        AlgorithmCallEvent event = s.event;
+        if (event == null) return;
+        s.event = null;
+        event.end();
+        if (event.shouldCommit()) {
+            event.comparisons = s.comparisons;
+            event.arrayAccesses = s.arrayAccesses;
+            event.memoryAllocations = s.memoryAllocations;
+            event.allocatedBytes = s.allocatedBytes;
+            event.gcCount = s.gcCount;
+            event.gcTime = s.gcTime;
+            event.commit();
+        }
     }
 
     public void resetCounters() {
-        this.comparisons = 0;
-        this.swaps = 0;
-        this.arrayAccesses = 0;
-        this.memoryAllocations = 0;
-        this.startTime = 0;
-        this.endTime = 0;
+        reset(state.get());
+    }
+
+    private static void reset(CallState s) {
+        s.method = null;
+        s.event = null;
+        s.comparisons = 0;
+        s.swaps = 0;
+        s.arrayAccesses = 0;
+        s.memoryAllocations = 0;
+        s.startTime = 0;
+        s.endTime = 0;
+        s.allocatedBytes = 0;
+        s.gcCount = 0;
+        s.gcTime = 0;
     }
 
     // Metric recording methods
-    public void recordComparison() { this.comparisons++; }
-    public void recordComparisons(int count) { this.comparisons += count; }
-    public void recordSwap() { this.swaps++; }
-    public void recordSwaps(int count) { this.swaps += count; }
-    public void recordArrayAccess() { this.arrayAccesses++; }
-    public void recordArrayAccess(int count) { this.arrayAccesses += count; }
-    public void recordMemoryAllocation() { this.memoryAllocations++; }
-    public void recordMemoryAllocations(int count) { this.memoryAllocations += count; }
+    public void recordComparison() { if (counting) state.get().comparisons++; }
+    public void recordComparisons(long count) { if (counting) state.get().comparisons += count; }
+    public void recordSwap() { if (counting) state.get().swaps++; }
+    public void recordSwaps(long count) { if (counting) state.get().swaps += count; }
+    public void recordArrayAccess() { if (counting) state.get().arrayAccesses++; }
+    public void recordArrayAccess(long count) { if (counting) state.get().arrayAccesses += count; }
+    public void recordMemoryAllocation() { if (counting) state.get().memoryAllocations++; }
+    public void recordMemoryAllocations(long count) { if (counting) state.get().memoryAllocations += count; }
 
     // Getters
-    public long getExecutionTime() { return endTime - startTime; }
-    public long getComparisons() { return comparisons; }
-    public long getSwaps() { return swaps; }
-    public long getArrayAccesses() { return arrayAccesses; }
-    public long getMemoryAllocations() { return memoryAllocations; }
+    public long getExecutionTime() { CallState s = state.get(); return s.endTime - s.startTime; }
+    public long getComparisons() { return state.get().comparisons; }
+    public long getSwaps() { return state.get().swaps; }
+    public long getArrayAccesses() { return state.get().arrayAccesses; }
+    public long getMemoryAllocations() { return state.get().memoryAllocations; }
+    /** Bytes allocated by the calling thread during its last call, or -1 if the JVM cannot tell */
+    public long getAllocatedBytes() { return state.get().allocatedBytes; }
+    /** GC collections that completed during the calling thread's last call (any thread may have caused them) */
+    public long getGcCount() { return state.get().gcCount; }
+    public long getGcTimeMillis() { return state.get().gcTime; }
     public String getAlgorithmName() { return algorithmName; }
 
     public void printMetrics() {
         System.out.println("=== " + algorithmName + " Performance Metrics ===");
         System.out.printf("Execution Time: %,d ns%n", getExecutionTime());
-        System.out.printf("Comparisons: %,d%n", comparisons);
-        System.out.printf("Array Accesses: %,d%n", arrayAccesses);
-        System.out.printf("Memory Allocations: %,d%n", memoryAllocations);
+        System.out.printf("Comparisons: %,d%n", getComparisons());
+        System.out.printf("Array Accesses: %,d%n", getArrayAccesses());
+        System.out.printf("Memory Allocations: %,d%n", getMemoryAllocations());
+        System.out.printf("Allocated Bytes: %,d%n", getAllocatedBytes());
+        System.out.printf("GC Collections: %,d (%,d ms)%n", getGcCount(), getGcTimeMillis());
         System.out.println("=================================");
     }
 
     public String getMetricsCSV() {
-        return String.format("%s,%d,%d,%d,%d",
-                algorithmName, getExecutionTime(), comparisons, arrayAccesses, memoryAllocations);
+        return String.format("%s,%d,%d,%d,%d,%d,%d,%d",
+                algorithmName, getExecutionTime(), getComparisons(), getArrayAccesses(), getMemoryAllocations(),
+                getAllocatedBytes(), getGcCount(), getGcTimeMillis());
     }
-}
\ No newline at end of file
+}
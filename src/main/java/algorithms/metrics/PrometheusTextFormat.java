@@ -0,0 +1,76 @@
+package algorithms.metrics;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Prometheus text exposition format (version 0.0.4).
+ * Counters become {@code *_total} series and latency a summary in seconds.
+ */
+public final class PrometheusTextFormat implements MetricsFormat {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    @Override
+    public void write(MetricsRegistry registry, long timestampMillis, Appendable out) throws IOException {
+        List<MethodMetrics> methods = registry.getMethods();
+        counter(out, methods, "algorithm_calls_total", "Completed calls", MethodMetrics::getCalls);
+        counter(out, methods, "algorithm_comparisons_total", "Recorded comparisons", MethodMetrics::getComparisons);
+        counter(out, methods, "algorithm_array_accesses_total", "Recorded array accesses", MethodMetrics::getArrayAccesses);
+        counter(out, methods, "algorithm_memory_allocations_total", "Recorded memory allocations",
+                MethodMetrics::getMemoryAllocations);
+        counter(out, methods, "algorithm_allocated_bytes_total", "Bytes allocated by calling threads",
+                MethodMetrics::getAllocatedBytes);
+        counter(out, methods, "algorithm_gc_collections_total", "GC collections overlapping calls",
+                MethodMetrics::getGcCount);
+
+        out.append("# HELP algorithm_gc_time_seconds_total Time of GC collections overlapping calls\n");
+        out.append("# TYPE algorithm_gc_time_seconds_total counter\n");
+        for (MethodMetrics metrics : methods) {
+            out.append("algorithm_gc_time_seconds_total{").append(labels(metrics)).append("} ")
+                    .append(Double.toString(metrics.getGcTimeMillis() / 1e3)).append('\n');
+        }
+
+        out.append("# HELP algorithm_latency_seconds Call latency\n");
+        out.append("# TYPE algorithm_latency_seconds summary\n");
+        for (MethodMetrics metrics : methods) {
+            LatencyHistogram.Snapshot latency = metrics.getLatency();
+            String labels = labels(metrics);
+            for (double quantile : QUANTILES) {
+                out.append("algorithm_latency_seconds{").append(labels)
+                        .append(",quantile=\"").append(Double.toString(quantile)).append("\"} ")
+                        .append(seconds(latency.percentile(quantile))).append('\n');
+            }
+            out.append("algorithm_latency_seconds_sum{").append(labels).append("} ")
+                    .append(seconds(metrics.getTotalNanos())).append('\n');
+            out.append("algorithm_latency_seconds_count{").append(labels).append("} ")
+                    .append(Long.toString(latency.getCount())).append('\n');
+        }
+    }
+
+    private interface Counter {
+        long get(MethodMetrics metrics);
+    }
+
+    private static void counter(Appendable out, List<MethodMetrics> methods, String name, String help, Counter counter)
+            throws IOException {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" counter\n");
+        for (MethodMetrics metrics : methods) {
+            out.append(name).append('{').append(labels(metrics)).append("} ")
+                    .append(Long.toString(counter.get(metrics))).append('\n');
+        }
+    }
+
+    private static String labels(MethodMetrics metrics) {
+        return "algorithm=\"" + escape(metrics.getAlgorithmName()) + "\",method=\"" + escape(metrics.getMethodName()) + "\"";
+    }
+
+    static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / 1e9);
+    }
+}
@@ -0,0 +1,58 @@
+package algorithms.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads per-thread allocated bytes and cumulative GC counts from the platform MXBeans.
+ * Allocation needs the HotSpot {@code com.sun.management.ThreadMXBean}; elsewhere it reports -1.
+ * Loading this class enables thread allocation accounting JVM-wide if it was disabled.
+ */
+final class ResourceProbe {
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+    private static final GarbageCollectorMXBean[] COLLECTORS =
+            ManagementFactory.getGarbageCollectorMXBeans().toArray(new GarbageCollectorMXBean[0]);
+
+    private ResourceProbe() {
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+            if (hotspot.isThreadAllocatedMemorySupported()) {
+                if (!hotspot.isThreadAllocatedMemoryEnabled()) {
+                    hotspot.setThreadAllocatedMemoryEnabled(true);
+                }
+                return hotspot;
+            }
+        }
+        return null;
+    }
+
+    static boolean allocationSupported() {
+        return THREADS != null;
+    }
+
+    /** Bytes allocated so far by the calling thread, or -1 if unsupported */
+    static long threadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    static long gcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+}
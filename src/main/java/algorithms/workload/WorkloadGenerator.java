@@ -0,0 +1,177 @@
+package algorithms.workload;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Seeded, reproducible input arrays for benchmarks and tests.
+ * Element-wise distributions are filled in parallel chunks, each with its own
+ * random stream derived from (seed, chunk index), so the output depends only on
+ * the seed and never on the number of threads. Shuffles are unbiased Fisher-Yates.
+ */
+public final class WorkloadGenerator {
+    private static final int CHUNK_SIZE = 1 << 16;
+    private static final long CHUNK_SEED_STRIDE = 0x9E3779B97F4A7C15L;
+    public static final int RUN_LENGTH = 1000;
+    public static final int ZIPF_VALUES = 1000;
+    public static final double ZIPF_EXPONENT = 1.1;
+
+    public enum Distribution {
+        /** Uniform in [-100, 100) */
+        UNIFORM,
+        /** Ten distinct values in equal shares, shuffled; no value exceeds n/2 for n >= 2 */
+        NO_MAJORITY,
+        /** One value occurs exactly n/2 + 1 times, the rest uniform over the other values in [0, 100), shuffled */
+        MAJORITY,
+        /** Majority of n/2 + 1 placed last, after pairwise-distinct values that keep the candidate churning */
+        ADVERSARIAL_MAJORITY,
+        /** Uniform in [-100, -1] */
+        ALL_NEGATIVE,
+        /** Uniform in [1, 100] */
+        ALL_POSITIVE,
+        /** Runs of RUN_LENGTH elements alternating between [1, 100] and [-100, -1] */
+        ALTERNATING_RUNS,
+        /** Values 0..ZIPF_VALUES-1 drawn with probability proportional to 1 / (rank + 1)^ZIPF_EXPONENT */
+        ZIPFIAN
+    }
+
+    private final long seed;
+
+    public WorkloadGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int[] generate(Distribution distribution, int size) {
+        switch (distribution) {
+            case UNIFORM:
+                return uniform(size, -100, 100);
+            case NO_MAJORITY:
+                return noMajority(size);
+            case MAJORITY:
+                return withMajority(size, 100);
+            case ADVERSARIAL_MAJORITY:
+                return adversarialMajority(size);
+            case ALL_NEGATIVE:
+                return uniform(size, -100, 0);
+            case ALL_POSITIVE:
+                return uniform(size, 1, 101);
+            case ALTERNATING_RUNS:
+                return alternatingRuns(size);
+            case ZIPFIAN:
+                return zipfian(size);
+            default:
+                throw new IllegalArgumentException("Unknown distribution: " + distribution);
+        }
+    }
+
+    /** Uniform values in [minInclusive, maxExclusive) */
+    public int[] uniform(int size, int minInclusive, int maxExclusive) {
+        int[] array = new int[size];
+        fillParallel(array, 0, (random, index) -> random.nextInt(minInclusive, maxExclusive));
+        return array;
+    }
+
+    /**
+     * Exactly size / 2 + 1 copies of one value in [0, valueRange), the rest uniform over
+     * the other values of [0, valueRange).
+     */
+    public int[] withMajority(int size, int valueRange) {
+        if (valueRange < 2) {
+            throw new IllegalArgumentException("valueRange must be at least 2, got " + valueRange);
+        }
+        int[] array = new int[size];
+        if (size == 0) {
+            return array;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        int majority = random.nextInt(valueRange);
+        int majorityCount = size / 2 + 1;
+        java.util.Arrays.fill(array, 0, majorityCount, majority);
+        // Draw from valueRange - 1 values and skip over the majority so its count stays exact
+        fillParallel(array, majorityCount, (r, index) -> {
+            int value = r.nextInt(valueRange - 1);
+            return value >= majority ? value + 1 : value;
+        });
+        shuffle(array, random);
+        return array;
+    }
+
+    private int[] noMajority(int size) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] values = random.ints(0, Integer.MAX_VALUE).distinct().limit(10).toArray();
+        int[] array = new int[size];
+        for (int i = 0; i < size; i++) {
+            array[i] = values[i % values.length];
+        }
+        shuffle(array, random);
+        return array;
+    }
+
+    private int[] adversarialMajority(int size) {
+        int[] array = new int[size];
+        int majorityCount = size / 2 + 1;
+        int minorityCount = size - majorityCount;
+        int majority = new SplittableRandom(seed).nextInt(100);
+        // Distinct minority values make every pair cancel and replace the candidate
+        for (int i = 0; i < minorityCount; i++) {
+            array[i] = 100 + i;
+        }
+        java.util.Arrays.fill(array, minorityCount, size, majority);
+        return array;
+    }
+
+    private int[] alternatingRuns(int size) {
+        int[] array = new int[size];
+        fillParallel(array, 0, (random, index) ->
+                (index / RUN_LENGTH) % 2 == 0 ? random.nextInt(1, 101) : -random.nextInt(1, 101));
+        return array;
+    }
+
+    private int[] zipfian(int size) {
+        double[] cdf = new double[ZIPF_VALUES];
+        double total = 0;
+        for (int rank = 0; rank < ZIPF_VALUES; rank++) {
+            total += 1.0 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cdf[rank] = total;
+        }
+        for (int rank = 0; rank < ZIPF_VALUES; rank++) {
+            cdf[rank] /= total;
+        }
+        int[] array = new int[size];
+        fillParallel(array, 0, (random, index) -> {
+            int rank = java.util.Arrays.binarySearch(cdf, random.nextDouble());
+            return Math.min(rank < 0 ? -rank - 1 : rank, ZIPF_VALUES - 1);
+        });
+        return array;
+    }
+
+    /** Element value from a chunk-local random stream and the global index */
+    private interface ElementSource {
+        int next(SplittableRandom random, int index);
+    }
+
+    private void fillParallel(int[] array, int from, ElementSource source) {
+        int chunks = (array.length - from + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            SplittableRandom random = new SplittableRandom(seed + (chunk + 1) * CHUNK_SEED_STRIDE);
+            int start = from + chunk * CHUNK_SIZE;
+            int end = Math.min(array.length, start + CHUNK_SIZE);
+            for (int i = start; i < end; i++) {
+                array[i] = source.next(random, i);
+            }
+        });
+    }
+
+    private static void shuffle(int[] array, SplittableRandom random) {
+        for (int i = array.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+}
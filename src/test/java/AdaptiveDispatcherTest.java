@@ -0,0 +1,158 @@
+package algorithms.array;
+
+import algorithms.metrics.InstrumentationLevel;
+import algorithms.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveDispatcherTest {
+    private static final KadaneAlgorithm KADANE = new KadaneAlgorithm();
+    private static final BoyerMooreMajorityVote BOYER_MOORE = new BoyerMooreMajorityVote();
+
+    private static void assertSameResult(KadaneAlgorithm.Result expected, KadaneAlgorithm.Result actual) {
+        assertEquals(expected.maxSum, actual.maxSum);
+        assertEquals(expected.startIndex, actual.startIndex);
+        assertEquals(expected.endIndex, actual.endIndex);
+    }
+
+    @Test
+    void testEnginesMatchSequentialResults() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AdaptiveDispatcher dispatcher = new AdaptiveDispatcher(new DispatchProfile(4, 1000, 1000), pool,
+                    InstrumentationLevel.FULL);
+            Random random = new Random(5);
+
+            int[] positive = random.ints(5000, 1, 100).toArray();
+            assertSameResult(KADANE.findMaximumSubarray(positive), dispatcher.findMaximumSubarray(positive));
+            assertEquals(AdaptiveDispatcher.Engine.VECTORIZED, dispatcher.getLastDecision().getEngine());
+
+            int[] withZero = positive.clone();
+            withZero[1] = 0;
+            assertSameResult(KADANE.findMaximumSubarray(withZero), dispatcher.findMaximumSubarray(withZero));
+            assertEquals(AdaptiveDispatcher.Engine.PARALLEL, dispatcher.getLastDecision().getEngine());
+
+            int[] mixed = random.ints(500, -50, 50).toArray();
+            assertSameResult(KADANE.findMaximumSubarray(mixed), dispatcher.findMaximumSubarray(mixed));
+            assertEquals(AdaptiveDispatcher.Engine.SEQUENTIAL, dispatcher.getLastDecision().getEngine());
+            assertEquals(500, dispatcher.getLastDecision().getLength());
+
+            int[] votes = new int[3000];
+            for (int i = 0; i < votes.length; i++) {
+                votes[i] = i % 3 == 0 ? 9 : i % 5;
+            }
+            assertEquals(BOYER_MOORE.findMajority(votes), dispatcher.findMajority(votes));
+            assertEquals(AdaptiveDispatcher.Engine.PARALLEL, dispatcher.getLastDecision().getEngine());
+
+            List<Integer> expected = new ArrayList<>(BOYER_MOORE.findMajorityElements(votes));
+            Collections.sort(expected);
+            assertEquals(expected, dispatcher.findMajorityElements(votes));
+            int[] small = {3, 1, 3, 2, 1, 3, 1};
+            assertEquals(List.of(1, 3), dispatcher.findMajorityElements(small));
+            assertEquals(AdaptiveDispatcher.Engine.SEQUENTIAL, dispatcher.getLastDecision().getEngine());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testVectorizedSumOutsideIntRangeRejected() {
+        AdaptiveDispatcher dispatcher = new AdaptiveDispatcher(new DispatchProfile(1, DispatchProfile.NEVER,
+                DispatchProfile.NEVER));
+        // Like the parallel engine, the whole-array sum is checked instead of wrapping
+        assertEquals(Integer.MAX_VALUE, dispatcher.findMaximumSubarray(new int[]{Integer.MAX_VALUE - 1, 1}).maxSum);
+        assertEquals(AdaptiveDispatcher.Engine.VECTORIZED, dispatcher.getLastDecision().getEngine());
+        assertThrows(ArithmeticException.class,
+                () -> dispatcher.findMaximumSubarray(new int[]{Integer.MAX_VALUE, 1}));
+        assertEquals(3L * Integer.MAX_VALUE, ReductionKernels.get().sum(
+                new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE}, 0, 3));
+    }
+
+    @Test
+    void testFallbackStaysInOneTrackedCall() {
+        AdaptiveDispatcher dispatcher = new AdaptiveDispatcher(new DispatchProfile(1, DispatchProfile.NEVER,
+                DispatchProfile.NEVER));
+        MetricsRegistry registry = new MetricsRegistry();
+        dispatcher.getKadane().getTracker().setMetricsRegistry(registry);
+
+        int[] lateZero = new int[1000];
+        java.util.Arrays.fill(lateZero, 2);
+        lateZero[999] = 0;
+        assertSameResult(KADANE.findMaximumSubarray(lateZero), dispatcher.findMaximumSubarray(lateZero));
+        assertEquals(AdaptiveDispatcher.Engine.SEQUENTIAL, dispatcher.getLastDecision().getEngine());
+        dispatcher.findMaximumSubarray(new int[]{1, 2, 3});
+        assertEquals(AdaptiveDispatcher.Engine.VECTORIZED, dispatcher.getLastDecision().getEngine());
+
+        // The sample and scan are timed with the call they decide, and each call is counted once
+        assertEquals(1, registry.getMethods().size());
+        assertEquals(2, registry.method("KadaneAlgorithm", "findMaximumSubarray").getCalls());
+    }
+
+    @Test
+    void testEngineLabelsIgnoreDefaultLocale() {
+        java.util.Locale original = java.util.Locale.getDefault();
+        try {
+            java.util.Locale.setDefault(new java.util.Locale("tr", "TR"));
+            assertEquals("sequential", AdaptiveDispatcher.Engine.SEQUENTIAL.label());
+            assertEquals("vectorized", AdaptiveDispatcher.Engine.VECTORIZED.label());
+        } finally {
+            java.util.Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    void testDecisionsCarryPerCallLength() {
+        AdaptiveDispatcher dispatcher = new AdaptiveDispatcher(new DispatchProfile(1, DispatchProfile.NEVER,
+                DispatchProfile.NEVER));
+        dispatcher.findMaximumSubarray(new int[]{1, -2, 3});
+        AdaptiveDispatcher.Decision first = dispatcher.getLastDecision();
+        dispatcher.findMaximumSubarray(new int[]{4, -1, 2, -7, 5});
+        AdaptiveDispatcher.Decision second = dispatcher.getLastDecision();
+        assertEquals(3, first.getLength());
+        assertEquals(5, second.getLength());
+        assertEquals(first.getReason(), second.getReason());
+        assertEquals(AdaptiveDispatcher.Engine.SEQUENTIAL, second.getEngine());
+    }
+
+    @Test
+    void testEmptyAndNullInputs() {
+        AdaptiveDispatcher dispatcher = new AdaptiveDispatcher();
+        assertEquals(0, dispatcher.findMaximumSubarray(new int[0]).maxSum);
+        assertNull(dispatcher.findMajority(null));
+        assertTrue(dispatcher.findMajorityElements(new int[0]).isEmpty());
+    }
+
+    @Test
+    void testProfiles(@TempDir Path dir) throws Exception {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertEquals(DispatchProfile.NEVER, DispatchProfile.defaults(single).getKadaneParallelThreshold());
+            assertEquals(KadaneAlgorithm.PARALLEL_THRESHOLD, DispatchProfile.defaults(pool).getKadaneParallelThreshold());
+
+            DispatchProfile calibrated = DispatchProfile.calibrate(pool, 1 << 14);
+            assertEquals(2, calibrated.getCores());
+            assertTrue(calibrated.getKadaneParallelThreshold() >= DispatchProfile.MIN_CALIBRATION_SIZE);
+
+            Path file = dir.resolve("dispatch.properties");
+            calibrated.store(file);
+            DispatchProfile loaded = DispatchProfile.load(file);
+            assertEquals(calibrated.toString(), loaded.toString());
+            assertTrue(loaded.matches(pool));
+            assertFalse(loaded.matches(single));
+            assertEquals(loaded.toString(), DispatchProfile.loadOrCalibrate(file, pool).toString());
+        } finally {
+            single.shutdown();
+            pool.shutdown();
+        }
+    }
+}
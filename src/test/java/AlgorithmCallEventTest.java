@@ -0,0 +1,95 @@
+package algorithms.metrics;
+
+import algorithms.array.AdaptiveDispatcher;
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.array.DispatchProfile;
+import algorithms.array.KadaneAlgorithm;
+import jdk.jfr.EventSettings;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlgorithmCallEventTest {
+
+    private static List<RecordedEvent> record(Path dir, Duration threshold, Runnable calls) throws Exception {
+        Path file = dir.resolve("calls.jfr");
+        try (Recording recording = new Recording()) {
+            EventSettings settings = recording.enable(AlgorithmCallEvent.NAME);
+            if (threshold != null) settings.withThreshold(threshold);
+            recording.start();
+            calls.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(AlgorithmCallEvent.NAME))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void testEventPerCall(@TempDir Path dir) throws Exception {
+        int[] array = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote(InstrumentationLevel.OFF);
+
+        List<RecordedEvent> events = record(dir, Duration.ZERO, () -> {
+            kadane.findMaximumSubarray(array);
+            kadane.findMaximumCircularSubarray(array);
+            bm.findMajority(new int[]{1, 1, 2});
+        });
+
+        assertEquals(3, events.size());
+        RecordedEvent first = events.stream()
+                .filter(e -> e.getString("method").equals("findMaximumSubarray")).findFirst().orElseThrow();
+        assertEquals("KadaneAlgorithm", first.getString("algorithm"));
+        assertEquals("sequential", first.getString("engine"));
+        assertEquals(array.length, first.getInt("inputLength"));
+        assertEquals(array.length + 1, first.getLong("arrayAccesses"));
+        assertFalse(first.getDuration().isNegative());
+        assertFalse(first.getDuration("gcTime").isNegative());
+
+        RecordedEvent majority = events.stream()
+                .filter(e -> e.getString("method").equals("findMajority")).findFirst().orElseThrow();
+        assertEquals(0, majority.getLong("comparisons"));
+    }
+
+    @Test
+    void testDispatcherFallbackEmitsOneEvent(@TempDir Path dir) throws Exception {
+        AdaptiveDispatcher dispatcher = new AdaptiveDispatcher(
+                new DispatchProfile(1, DispatchProfile.NEVER, DispatchProfile.NEVER));
+        int[] array = new int[100];
+        java.util.Arrays.fill(array, 3);
+        array[1] = 0; // missed by the sample, found by the vector scan
+
+        List<RecordedEvent> events = record(dir, Duration.ZERO, () -> dispatcher.findMaximumSubarray(array));
+        assertEquals(1, events.size());
+        assertEquals("sequential", events.get(0).getString("engine"));
+    }
+
+    @Test
+    void testThresholdFiltersFastCalls(@TempDir Path dir) throws Exception {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        List<RecordedEvent> events = record(dir, Duration.ofHours(1),
+                () -> kadane.findMaximumSubarray(new int[]{1, 2, 3}));
+        assertTrue(events.isEmpty());
+
+        // The default threshold keeps small calls out of always-on recordings; a call stalled
+        // past 1 ms (GC, descheduling) may still be recorded, so only the bound is strict
+        List<RecordedEvent> defaults = record(dir, null, () -> {
+            for (int i = 0; i < 10; i++) kadane.findMaximumSubarray(new int[]{1, 2, 3});
+        });
+        assertTrue(defaults.size() < 10, defaults.size() + " of 10 calls recorded");
+        for (RecordedEvent event : defaults) {
+            assertTrue(event.getDuration().compareTo(Duration.ofMillis(1)) >= 0, event.getDuration().toString());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationFreeApiTest {
+    private static final int WARMUP_CALLS = 20_000;
+    private static final int MEASURED_CALLS = 1_000;
+    /** Tolerance for TLAB refills and counter bookkeeping over the whole measured loop */
+    private static final long ALLOCATION_NOISE_BYTES = 1024;
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters not available");
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(sunBean.isThreadAllocatedMemorySupported(), "Allocation counters not supported");
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+        return sunBean;
+    }
+
+    @Test
+    void testPrimitiveResults() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        KadaneAlgorithm.Bounds bounds = new KadaneAlgorithm.Bounds();
+        assertTrue(kadane.findMaximumSubarray(new int[]{-2, 1, -3, 4, -1, 2, 1, -5, 4}, bounds));
+        assertEquals(6, bounds.getMaxSum());
+        assertEquals(3, bounds.getStartIndex());
+        assertEquals(6, bounds.getEndIndex());
+        assertArrayEquals(new int[]{4, -1, 2, 1}, bounds.copySubarray());
+        assertEquals(2, bounds.view().get(2));
+        assertFalse(kadane.findMaximumSubarray(new int[0], bounds));
+        assertEquals(0, bounds.length());
+
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        BoyerMooreMajorityVote.Majority majority = new BoyerMooreMajorityVote.Majority();
+        assertTrue(bm.findMajority(new int[]{2, 2, 1, 2, 2, 3, 2}, majority));
+        assertEquals(2, majority.getValue());
+        assertFalse(bm.findMajority(new int[]{1, 2, 3}, majority));
+        assertThrows(IllegalStateException.class, majority::getValue);
+    }
+
+    @Test
+    void testSteadyStateCallsAllocateNothing() {
+        com.sun.management.ThreadMXBean bean = threadBean();
+        long thread = Thread.currentThread().getId();
+
+        int[] array = new int[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = (i % 3 == 0) ? -5 : 7;
+        }
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        KadaneAlgorithm.Bounds bounds = new KadaneAlgorithm.Bounds();
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        BoyerMooreMajorityVote.Majority majority = new BoyerMooreMajorityVote.Majority();
+
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            kadane.findMaximumSubarray(array, bounds);
+            bm.findMajority(array, majority);
+        }
+
+        long before = bean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED_CALLS; i++) {
+            kadane.findMaximumSubarray(array, bounds);
+            bm.findMajority(array, majority);
+        }
+        long allocated = bean.getThreadAllocatedBytes(thread) - before;
+
+        assertTrue(majority.isPresent());
+        // Two calls per round, so even one 16-byte object per call would total 32 KB
+        assertTrue(allocated < ALLOCATION_NOISE_BYTES, "Bytes allocated over " + MEASURED_CALLS + " rounds: " + allocated);
+    }
+
+    @Test
+    void testTrackerReportsResultCopyAllocation() {
+        threadBean();
+        int[] array = new int[100_000];
+        java.util.Arrays.fill(array, 1);
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        KadaneAlgorithm.Bounds bounds = new KadaneAlgorithm.Bounds();
+        for (int i = 0; i < 100; i++) {
+            kadane.findMaximumSubarray(array, bounds);
+        }
+
+        kadane.findMaximumSubarray(array);
+        assertTrue(kadane.getTracker().getAllocatedBytes() >= 4L * array.length,
+                "Result copy allocated " + kadane.getTracker().getAllocatedBytes());
+
+        kadane.findMaximumSubarray(array, bounds);
+        assertTrue(kadane.getTracker().getAllocatedBytes() < array.length,
+                "Bounds call allocated " + kadane.getTracker().getAllocatedBytes());
+    }
+}
@@ -0,0 +1,75 @@
+package algorithms.batch;
+
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.array.KadaneAlgorithm;
+import org.junit.jupiter.api.Test;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArrayBatchServiceTest {
+
+    @Test
+    void testResultsComeBackInInputOrder() {
+        Random random = new Random(29);
+        int[][] arrays = new int[500][];
+        for (int a = 0; a < arrays.length; a++) {
+            arrays[a] = new int[1 + random.nextInt(50)];
+            for (int i = 0; i < arrays[a].length; i++) arrays[a][i] = random.nextInt(5) - 2;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (ArrayBatchService service = new ArrayBatchService(executor, 64)) {
+            List<KadaneAlgorithm.Bounds> sums = service.findMaximumSubarrays(arrays);
+            List<BoyerMooreMajorityVote.Majority> majorities = service.findMajorities(arrays);
+            assertEquals(arrays.length, sums.size());
+            assertEquals(arrays.length, service.getLastBatchSize());
+            ArrayBatchService.BatchStats last = service.getLastBatch();
+            assertEquals(arrays.length, last.getArrays());
+            assertTrue(last.getNanos() > 0);
+            assertEquals(last.getArrays() / (last.getNanos() / 1e9), last.getArraysPerSecond(), 1e-6);
+
+            KadaneAlgorithm kadane = new KadaneAlgorithm();
+            BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+            for (int a = 0; a < arrays.length; a++) {
+                KadaneAlgorithm.Result expected = kadane.findMaximumSubarray(arrays[a]);
+                assertEquals(expected.maxSum, sums.get(a).getMaxSum());
+                assertEquals(expected.startIndex, sums.get(a).getStartIndex());
+                Integer majority = bm.findMajority(arrays[a]);
+                assertEquals(majority != null, majorities.get(a).isPresent());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testNullRowDoesNotEndBatch() {
+        int[][] arrays = {{1, 1, 2}, null, {-3, 4, -1}};
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (ArrayBatchService service = new ArrayBatchService(executor, 1)) {
+            List<KadaneAlgorithm.Bounds> sums = service.findMaximumSubarrays(arrays);
+            assertEquals(3, sums.size());
+            assertEquals(-1, sums.get(1).getStartIndex());
+            assertEquals(4, sums.get(2).getMaxSum());
+
+            List<BoyerMooreMajorityVote.Majority> majorities = service.findMajorities(arrays);
+            assertEquals(3, service.getLastBatchSize());
+            assertTrue(majorities.get(0).isPresent());
+            assertFalse(majorities.get(1).isPresent());
+            assertFalse(majorities.get(2).isPresent());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testVirtualThreadFactoryAlwaysWorks() {
+        try (ArrayBatchService service = ArrayBatchService.withVirtualThreads()) {
+            assertTrue(service.findMajorities(new int[][]{{1, 1, 2}}).get(0).isPresent());
+            assertTrue(service.getLastArraysPerSecond() > 0);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedLengthKadaneTest {
+
+    /** Brute force with the same tie-breaking: earliest end, then latest start */
+    private static long[] bruteForce(int[] array, int minLength, int maxLength) {
+        long[] best = null;
+        for (int end = 0; end < array.length; end++) {
+            long sum = 0;
+            for (int start = end; start >= 0 && end - start + 1 <= maxLength; start--) {
+                sum += array[start];
+                if (end - start + 1 >= minLength && (best == null || sum > best[0])) {
+                    best = new long[]{sum, start, end};
+                }
+            }
+        }
+        return best;
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        Random random = new Random(23);
+        for (int round = 0; round < 500; round++) {
+            int[] array = random.ints(random.nextInt(60), -10, 10).toArray();
+            int minLength = 1 + random.nextInt(8);
+            int maxLength = minLength + random.nextInt(12);
+
+            long[] expected = bruteForce(array, minLength, maxLength);
+            KadaneAlgorithm.Result result = kadane.findMaximumSubarray(array, minLength, maxLength);
+            if (expected == null) {
+                assertEquals(-1, result.startIndex);
+                continue;
+            }
+            String message = "L=" + minLength + " W=" + maxLength;
+            assertEquals(expected[0], result.maxSum, message);
+            assertEquals(expected[1], result.startIndex, message);
+            assertEquals(expected[2], result.endIndex, message);
+        }
+    }
+
+    @Test
+    void testUnboundedMatchesKadane() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        Random random = new Random(8);
+        for (int round = 0; round < 200; round++) {
+            int[] array = random.ints(1 + random.nextInt(100), -5, 6).toArray();
+            KadaneAlgorithm.Result expected = kadane.findMaximumSubarray(array);
+            KadaneAlgorithm.Result actual = kadane.findMaximumSubarray(array, 1, Integer.MAX_VALUE);
+            assertEquals(expected.maxSum, actual.maxSum);
+            assertEquals(expected.startIndex, actual.startIndex);
+            assertEquals(expected.endIndex, actual.endIndex);
+        }
+    }
+
+    @Test
+    void testStreamingAcrossChunks() {
+        int[] array = new Random(4).ints(10_000, -100, 101).toArray();
+        BoundedLengthKadane whole = new BoundedLengthKadane(50, 300);
+        whole.accept(array);
+        BoundedLengthKadane streamed = new BoundedLengthKadane(50, 300);
+        for (int from = 0; from < array.length; from += 777) {
+            streamed.accept(array, from, Math.min(array.length, from + 777));
+        }
+        assertEquals(whole.getBestSum(), streamed.getBestSum());
+        assertEquals(whole.getBestStart(), streamed.getBestStart());
+        assertEquals(whole.getBestEnd(), streamed.getBestEnd());
+        assertTrue(whole.getBestEnd() - whole.getBestStart() + 1 >= 50);
+        assertTrue(whole.getBestEnd() - whole.getBestStart() + 1 <= 300);
+    }
+
+    @Test
+    void testSumOutsideIntRangeRejected() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        int[] array = {Integer.MAX_VALUE, -1, Integer.MAX_VALUE, 5};
+        assertThrows(ArithmeticException.class, () -> kadane.findMaximumSubarray(array, 2, 4));
+        // The streaming scan itself keeps the exact long sum
+        BoundedLengthKadane scan = new BoundedLengthKadane(2, 4);
+        scan.accept(array);
+        assertEquals(2L * Integer.MAX_VALUE + 4, scan.getBestSum());
+    }
+
+    @Test
+    void testInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedLengthKadane(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedLengthKadane(5, 4));
+        BoundedLengthKadane scan = new BoundedLengthKadane(3, 3);
+        scan.accept(new int[]{1, 2});
+        assertFalse(scan.hasResult());
+    }
+}
@@ -1,8 +1,13 @@
 package algorithms.array;
 
 
+import algorithms.metrics.InstrumentationLevel;
 import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import static org.junit.jupiter.api.Assertions.*;
 
 class BoyerMooreMajorityVoteTest {
@@ -81,4 +86,38 @@ class BoyerMooreMajorityVoteTest {
         assertEquals(1, result.size());
         assertEquals(5, result.get(0));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindMajorityInstrumentationOff() {
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote(InstrumentationLevel.OFF);
+        int[] array = {2, 2, 1, 2, 2, 3, 2};
+        assertEquals(2, bm.findMajority(array));
+        assertEquals(0, bm.getTracker().getArrayAccesses());
+    }
+
+    @Test
+    void testParallelMatchesSequential() {
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        Random random = new Random(11);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int round = 0; round < 300; round++) {
+                int[] array = new int[1 + random.nextInt(200)];
+                int dominant = random.nextInt(4);
+                int share = random.nextInt(100);
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = random.nextInt(100) < share ? dominant : random.nextInt(5);
+                }
+                int chunkSize = 1 + random.nextInt(10);
+
+                assertEquals(bm.findMajority(array), bm.findMajorityParallel(array, pool, 1, chunkSize));
+
+                List<Integer> expected = new ArrayList<>(bm.findMajorityElements(array));
+                Collections.sort(expected);
+                assertEquals(expected, bm.findMajorityElementsParallel(array, pool, 1, chunkSize));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHitterSketchTest {
+    private static final double EPSILON = 0.01;
+
+    private static int[] skewedStream(long seed, int size) {
+        Random random = new Random(seed);
+        int[] stream = new int[size];
+        for (int i = 0; i < size; i++) {
+            int roll = random.nextInt(100);
+            // 20% value 7, 10% value 42, 6% value -3, the rest spread over a million values
+            stream[i] = roll < 20 ? 7 : roll < 30 ? 42 : roll < 36 ? -3 : random.nextInt(1_000_000);
+        }
+        return stream;
+    }
+
+    private static Map<Integer, Long> exactCounts(int[] stream) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (int value : stream) counts.merge(value, 1L, Long::sum);
+        return counts;
+    }
+
+    private static void assertBounds(HeavyHitterSketch sketch, Map<Integer, Long> exact) {
+        assertTrue(sketch.getErrorBound() <= EPSILON * sketch.getCount());
+        assertTrue(sketch.size() <= sketch.getCounters());
+        for (Map.Entry<Integer, Long> entry : exact.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertTrue(estimate <= entry.getValue());
+            assertTrue(entry.getValue() <= sketch.upperBound(entry.getKey()));
+        }
+    }
+
+    @Test
+    void testErrorBoundsAndHeavyHitters() {
+        int[] stream = skewedStream(1, 200_000);
+        HeavyHitterSketch sketch = new HeavyHitterSketch(EPSILON);
+        sketch.accept(stream);
+
+        assertEquals(100, sketch.getCounters());
+        assertEquals(stream.length, sketch.getCount());
+        assertBounds(sketch, exactCounts(stream));
+        assertArrayEquals(new int[]{-3, 7, 42}, sketch.heavyHitters(0.05));
+        assertArrayEquals(new int[]{7}, sketch.heavyHitters(0.15));
+    }
+
+    @Test
+    void testMergedShardsKeepGuarantee() {
+        int[] stream = skewedStream(2, 300_000);
+        HeavyHitterSketch merged = new HeavyHitterSketch(EPSILON);
+        for (int shard = 0; shard < 6; shard++) {
+            HeavyHitterSketch part = new HeavyHitterSketch(EPSILON);
+            part.accept(stream, shard * 50_000, (shard + 1) * 50_000);
+            merged.merge(part);
+        }
+
+        assertEquals(stream.length, merged.getCount());
+        assertBounds(merged, exactCounts(stream));
+        assertArrayEquals(new int[]{-3, 7, 42}, merged.heavyHitters(0.05));
+        assertThrows(IllegalArgumentException.class, () -> merged.merge(new HeavyHitterSketch(0.1)));
+    }
+
+    @Test
+    void testSerializationRoundTrip() {
+        HeavyHitterSketch sketch = new HeavyHitterSketch(EPSILON);
+        sketch.accept(skewedStream(3, 50_000));
+        byte[] bytes = sketch.toBytes();
+        assertEquals(28 + 12 * sketch.size(), bytes.length);
+
+        HeavyHitterSketch restored = HeavyHitterSketch.fromBytes(bytes);
+        assertEquals(sketch.getCount(), restored.getCount());
+        assertEquals(sketch.getErrorBound(), restored.getErrorBound());
+        assertEquals(sketch.estimate(7), restored.estimate(7));
+        assertArrayEquals(sketch.heavyHitters(0.05), restored.heavyHitters(0.05));
+
+        bytes[0] ^= 1;
+        assertThrows(IllegalArgumentException.class, () -> HeavyHitterSketch.fromBytes(bytes));
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitterSketch(0));
+        assertThrows(IllegalArgumentException.class, () -> new HeavyHitterSketch(1.5));
+        // At or below epsilon the no-false-negative guarantee does not hold
+        assertThrows(IllegalArgumentException.class, () -> sketch.heavyHitters(EPSILON));
+        assertThrows(IllegalArgumentException.class, () -> sketch.heavyHitters(Double.NaN));
+    }
+
+    @Test
+    void testCountsBeyondIntRange() {
+        long billions = 3_000_000_000L;
+        java.nio.ByteBuffer bytes = java.nio.ByteBuffer.allocate(28 + 12);
+        bytes.putInt(0x48485331).putInt(10).putLong(billions).putLong(0).putInt(1);
+        bytes.putInt(7).putLong(billions);
+        HeavyHitterSketch sketch = HeavyHitterSketch.fromBytes(bytes.array());
+
+        sketch.merge(sketch);
+        sketch.accept(7);
+        assertEquals(2 * billions + 1, sketch.estimate(7));
+        assertEquals(2 * billions + 1, sketch.getCount());
+        assertArrayEquals(new int[]{7}, sketch.heavyHitters(0.5));
+    }
+}
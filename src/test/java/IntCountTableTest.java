@@ -0,0 +1,47 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntCountTableTest {
+
+    @Test
+    void testMatchesHashMapUnderChurn() {
+        // Few distinct keys in a small table: long probe runs, growth and backward-shift deletions
+        IntCountTable table = new IntCountTable(2);
+        Map<Integer, Long> expected = new HashMap<>();
+        Random random = new Random(17);
+        for (int step = 0; step < 20_000; step++) {
+            int key = random.nextInt(64) * 1024;
+            if (random.nextInt(3) == 0) {
+                long remaining = expected.getOrDefault(key, 0L) - 1;
+                if (remaining > 0) expected.put(key, remaining);
+                else expected.remove(key);
+                assertEquals(Math.max(remaining, 0), table.decrement(key));
+            } else {
+                assertEquals(expected.merge(key, 1L, Long::sum), table.increment(key));
+            }
+            assertEquals(expected.size(), table.size());
+        }
+        for (int key = 0; key < 64 * 1024; key += 1024) {
+            assertEquals(expected.getOrDefault(key, 0L), table.get(key));
+        }
+    }
+
+    @Test
+    void testHoldsLongCounts() {
+        IntCountTable table = new IntCountTable(4);
+        table.add(1, Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE + 1L, table.increment(1));
+        table.add(2, 5);
+        table.subtractAll(Integer.MAX_VALUE);
+        assertEquals(1, table.get(1));
+        assertEquals(0, table.get(2));
+        assertEquals(1, table.size());
+    }
+}
@@ -0,0 +1,68 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+class KadaneAccumulatorTest {
+
+    @Test
+    void testEmptyAccumulator() {
+        KadaneAccumulator accumulator = new KadaneAccumulator();
+        assertTrue(accumulator.isEmpty());
+        assertEquals(-1, accumulator.getBestStart());
+        assertEquals(-1, accumulator.getBestEnd());
+    }
+
+    @Test
+    void testChunksMatchArrayScan() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        Random random = new Random(3);
+        for (int round = 0; round < 100; round++) {
+            int[] array = new int[1 + random.nextInt(100)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt(9) - 4;
+            }
+            KadaneAccumulator accumulator = new KadaneAccumulator();
+            int from = 0;
+            while (from < array.length) {
+                int to = Math.min(array.length, from + 1 + random.nextInt(7));
+                accumulator.accept(array, from, to);
+                from = to;
+            }
+            KadaneAlgorithm.Result expected = kadane.findMaximumSubarray(array);
+            assertEquals(expected.maxSum, accumulator.getBestSum());
+            assertEquals(expected.startIndex, accumulator.getBestStart());
+            assertEquals(expected.endIndex, accumulator.getBestEnd());
+        }
+    }
+
+    @Test
+    void testIntStreamInput() {
+        KadaneAccumulator accumulator = new KadaneAccumulator();
+        accumulator.accept(IntStream.of(-2, 1, -3, 4, -1, 2, 1, -5, 4));
+        assertEquals(6, accumulator.getBestSum());
+        assertEquals(3, accumulator.getBestStart());
+        assertEquals(6, accumulator.getBestEnd());
+    }
+
+    @Test
+    void testSnapshotAndResume() {
+        int[] first = {-2, 1, -3, 4};
+        int[] second = {-1, 2, 1, -5, 4};
+        KadaneAccumulator accumulator = new KadaneAccumulator();
+        accumulator.accept(first);
+
+        byte[] checkpoint = accumulator.snapshot().toBytes();
+        KadaneAccumulator resumed = KadaneAccumulator.resume(KadaneAccumulator.Snapshot.fromBytes(checkpoint));
+        resumed.accept(second);
+
+        assertEquals(6, resumed.getBestSum());
+        assertEquals(3, resumed.getBestStart());
+        assertEquals(6, resumed.getBestEnd());
+        assertEquals(first.length + second.length, resumed.getCount());
+        assertTrue(Arrays.equals(checkpoint, KadaneAccumulator.Snapshot.fromBytes(checkpoint).toBytes()));
+    }
+}
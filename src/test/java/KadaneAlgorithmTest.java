@@ -1,6 +1,9 @@
 package algorithms.array;
 
+import algorithms.metrics.InstrumentationLevel;
 import org.junit.jupiter.api.Test;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import static org.junit.jupiter.api.Assertions.*;
 
 class KadaneAlgorithmTest {
@@ -88,4 +91,129 @@ class KadaneAlgorithmTest {
         KadaneAlgorithm.Result result = kadane.findMaximumSubarray(array);
         assertEquals(0, result.maxSum);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testInstrumentationOffSkipsCounters() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm(InstrumentationLevel.OFF);
+        int[] array = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        KadaneAlgorithm.Result result = kadane.findMaximumSubarray(array);
+        assertEquals(6, result.maxSum);
+        assertEquals(0, kadane.getTracker().getComparisons());
+        assertEquals(0, kadane.getTracker().getArrayAccesses());
+        assertEquals(0, kadane.getTracker().getExecutionTime());
+    }
+
+    @Test
+    void testInstrumentationCountersAreBatchedPerPass() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm(InstrumentationLevel.COUNTERS);
+        int[] array = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        kadane.findMaximumSubarray(array);
+        assertEquals(2L * (array.length - 1), kadane.getTracker().getComparisons());
+        assertEquals(array.length + 1, kadane.getTracker().getArrayAccesses());
+    }
+
+    @Test
+    void testParallelMatchesSequentialIndices() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        Random random = new Random(7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int round = 0; round < 200; round++) {
+                int[] array = new int[1 + random.nextInt(300)];
+                for (int i = 0; i < array.length; i++) {
+                    // Small range produces plenty of zero runs and tied sums
+                    array[i] = random.nextInt(7) - 3;
+                }
+                KadaneAlgorithm.Result expected = kadane.findMaximumSubarray(array);
+                KadaneAlgorithm.Result actual = kadane.findMaximumSubarrayParallel(array, pool, 1, 1 + random.nextInt(8));
+                assertEquals(expected.maxSum, actual.maxSum);
+                assertEquals(expected.startIndex, actual.startIndex);
+                assertEquals(expected.endIndex, actual.endIndex);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelRejectsSumOutsideIntRange() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        int[] array = {Integer.MAX_VALUE, -1, Integer.MAX_VALUE, 5};
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertThrows(ArithmeticException.class, () -> kadane.findMaximumSubarrayParallel(array, pool, 1, 1));
+            int[] fits = {Integer.MAX_VALUE - 10, -20, 15, 4};
+            assertEquals(Integer.MAX_VALUE - 10, kadane.findMaximumSubarrayParallel(fits, pool, 1, 1).maxSum);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelBelowThresholdFallsBack() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        int[] array = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        KadaneAlgorithm.Result result = kadane.findMaximumSubarrayParallel(array);
+        assertEquals(6, result.maxSum);
+        assertEquals(3, result.startIndex);
+        assertEquals(6, result.endIndex);
+    }
+
+    @Test
+    void testCircularWrapIndices() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        int[] array = {5, -3, 5};
+        KadaneAlgorithm.Result result = kadane.findMaximumCircularSubarray(array);
+        assertEquals(10, result.maxSum);
+        assertEquals(2, result.startIndex);
+        assertEquals(0, result.endIndex);
+    }
+
+    @Test
+    void testCircularMatchesBruteForce() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        Random random = new Random(19);
+        for (int round = 0; round < 300; round++) {
+            int[] array = new int[1 + random.nextInt(20)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt(21) - 10;
+            }
+            int n = array.length;
+            int expected = Integer.MIN_VALUE;
+            for (int start = 0; start < n; start++) {
+                int sum = 0;
+                for (int len = 1; len <= n; len++) {
+                    sum += array[(start + len - 1) % n];
+                    expected = Math.max(expected, sum);
+                }
+            }
+            KadaneAlgorithm.Result result = kadane.findMaximumCircularSubarray(array);
+            assertEquals(expected, result.maxSum);
+
+            int sum = 0;
+            for (int i = result.startIndex; ; i = (i + 1) % n) {
+                sum += array[i];
+                if (i == result.endIndex) break;
+            }
+            assertEquals(expected, sum);
+        }
+    }
+
+    @Test
+    void testCircularMetricsCoverWholeCall() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        int[] array = {5, -3, 5, -1, 2};
+        int n = array.length;
+        // One fused pass: n reads; 4 comparisons per step after the first element, plus the wrap check
+        for (int repeat = 0; repeat < 2; repeat++) {
+            kadane.findMaximumCircularSubarray(array);
+            assertEquals(n, kadane.getTracker().getArrayAccesses());
+            assertEquals(4L * (n - 1) + 1, kadane.getTracker().getComparisons());
+        }
+
+        // Same pass, plus one sign check per element
+        kadane.findMaximumSubarrayOptimized(array);
+        assertEquals(n, kadane.getTracker().getArrayAccesses());
+        assertEquals(4L * (n - 1) + n, kadane.getTracker().getComparisons());
+    }
+}
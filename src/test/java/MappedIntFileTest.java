@@ -0,0 +1,90 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedIntFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(int[] values) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int value : values) buffer.putInt(value);
+        Path path = tempDir.resolve("data.bin");
+        Files.write(path, buffer.array());
+        return path;
+    }
+
+    private MappedIntFile openWithSmallWindows(Path path) throws IOException {
+        // 12-byte windows force many remaps per run
+        return new MappedIntFile(FileChannel.open(path, StandardOpenOption.READ), 12);
+    }
+
+    @Test
+    void testBlockMergesKeepCountsBeyondIntRange() {
+        // Merged block votes of a file past 2^31 elements: 32-bit counts would wrap here
+        long billions = 3_000_000_000L;
+        assertEquals(7, MajorityVoteTasks.survivor(7, billions, 9, billions - 1));
+        assertEquals(1, MajorityVoteTasks.survivorCount(7, billions, 9, billions - 1));
+        assertEquals(2 * billions, MajorityVoteTasks.survivorCount(7, billions, 7, billions));
+        assertEquals(9, MajorityVoteTasks.survivor(7, billions, 9, billions + 1));
+
+        long[] merged = MajorityVoteTasks.mergeCandidatePairs(
+                new long[]{7, billions, 8, 1}, new long[]{9, billions - 1, 8, 2});
+        assertArrayEquals(new long[]{7, billions - 3, 9, billions - 4}, merged);
+    }
+
+    @Test
+    void testMatchesInMemoryAlgorithms() throws IOException {
+        Random random = new Random(9);
+        int[] array = new int[1000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(3) == 0 ? random.nextInt(11) - 5 : 1;
+        }
+        Path path = write(array);
+
+        KadaneAlgorithm.Result expected = new KadaneAlgorithm().findMaximumSubarray(array);
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        List<Integer> expectedElements = new ArrayList<>(bm.findMajorityElements(array));
+        Collections.sort(expectedElements);
+
+        try (MappedIntFile file = openWithSmallWindows(path)) {
+            assertEquals(array.length, file.length());
+            SubarraySummary summary = file.findMaximumSubarray();
+            assertEquals(expected.maxSum, summary.bestSum);
+            assertEquals(expected.startIndex, summary.bestStart);
+            assertEquals(expected.endIndex, summary.bestEnd);
+            assertEquals(bm.findMajority(array), file.findMajority());
+            assertEquals(expectedElements, file.findMajorityElements());
+        }
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        try (MappedIntFile file = MappedIntFile.open(write(new int[0]))) {
+            assertNull(file.findMajority());
+            assertTrue(file.findMajorityElements().isEmpty());
+            assertNull(file.findMaximumSubarray());
+        }
+    }
+
+    @Test
+    void testRejectsTruncatedFile() throws IOException {
+        Path path = tempDir.resolve("odd.bin");
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> MappedIntFile.open(path));
+    }
+}
@@ -0,0 +1,43 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaxSubarraySegmentTreeTest {
+
+    @Test
+    void testQueriesMatchKadaneOnSlice() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        Random random = new Random(21);
+        int[] array = new int[257];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(9) - 4;
+        }
+        MaxSubarraySegmentTree tree = new MaxSubarraySegmentTree(array);
+
+        for (int round = 0; round < 2000; round++) {
+            if (round % 5 == 0) {
+                int index = random.nextInt(array.length);
+                array[index] = random.nextInt(9) - 4;
+                tree.update(index, array[index]);
+            }
+            int from = random.nextInt(array.length);
+            int to = from + random.nextInt(array.length - from);
+            KadaneAlgorithm.Result expected = kadane.findMaximumSubarray(Arrays.copyOfRange(array, from, to + 1));
+            SubarraySummary actual = tree.query(from, to);
+            assertEquals(expected.maxSum, actual.bestSum);
+            assertEquals(expected.startIndex + from, actual.bestStart);
+            assertEquals(expected.endIndex + from, actual.bestEnd);
+        }
+    }
+
+    @Test
+    void testInvalidRange() {
+        MaxSubarraySegmentTree tree = new MaxSubarraySegmentTree(new int[]{1, -2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.query(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.update(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> new MaxSubarraySegmentTree(new int[0]));
+    }
+}
@@ -0,0 +1,69 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaximumSubmatrixTest {
+
+    @Test
+    void testKnownMatrix() {
+        int[][] matrix = {
+                {1, 2, -1, -4, -20},
+                {-8, -3, 4, 2, 1},
+                {3, 8, 10, 1, 3},
+                {-4, -1, 1, 7, -6}
+        };
+        MaximumSubmatrix.Result result = new MaximumSubmatrix().findMaximumSubmatrix(matrix);
+        assertEquals(29, result.maxSum);
+        assertEquals(1, result.top);
+        assertEquals(1, result.left);
+        assertEquals(3, result.bottom);
+        assertEquals(3, result.right);
+    }
+
+    @Test
+    void testMatchesBruteForce() {
+        Random random = new Random(23);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int round = 0; round < 30; round++) {
+                int rows = 1 + random.nextInt(12), cols = 1 + random.nextInt(12);
+                int[][] matrix = new int[rows][cols];
+                for (int[] row : matrix) {
+                    for (int c = 0; c < cols; c++) row[c] = random.nextInt(21) - 10;
+                }
+                long expected = Long.MIN_VALUE;
+                for (int t = 0; t < rows; t++)
+                    for (int b = t; b < rows; b++)
+                        for (int l = 0; l < cols; l++)
+                            for (int r = l; r < cols; r++) {
+                                long sum = 0;
+                                for (int i = t; i <= b; i++)
+                                    for (int j = l; j <= r; j++) sum += matrix[i][j];
+                                expected = Math.max(expected, sum);
+                            }
+
+                MaximumSubmatrix.Result result = new MaximumSubmatrix().findMaximumSubmatrix(matrix, pool);
+                assertEquals(expected, result.maxSum);
+                MaximumSubmatrix.Result split = new MaximumSubmatrix().findMaximumSubmatrix(matrix, pool, 1);
+                assertEquals(result.toString(), split.toString());
+                long sum = 0;
+                for (int i = result.top; i <= result.bottom; i++)
+                    for (int j = result.left; j <= result.right; j++) sum += matrix[i][j];
+                assertEquals(expected, sum);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testEmptyAndJagged() {
+        MaximumSubmatrix submatrix = new MaximumSubmatrix();
+        assertEquals(-1, submatrix.findMaximumSubmatrix(new int[0][0]).top);
+        assertThrows(IllegalArgumentException.class,
+                () -> submatrix.findMaximumSubmatrix(new int[][]{{1, 2}, {3}}));
+    }
+}
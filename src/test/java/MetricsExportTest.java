@@ -0,0 +1,74 @@
+package algorithms.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsExportTest {
+
+    private static MetricsRegistry sampleRegistry() {
+        MetricsRegistry registry = new MetricsRegistry();
+        MethodMetrics metrics = registry.method("Kadane", "findMaximumSubarray");
+        metrics.record(1_000, 10, 20, 0);
+        metrics.record(3_000, 10, 20, 0);
+        metrics.recordResources(512, 1, 250);
+        return registry;
+    }
+
+    @Test
+    void testPrometheusFormat() throws Exception {
+        StringBuilder out = new StringBuilder();
+        new PrometheusTextFormat().write(sampleRegistry(), 0, out);
+        String text = out.toString();
+
+        assertTrue(text.contains("# TYPE algorithm_calls_total counter\n"));
+        assertTrue(text.contains("algorithm_calls_total{algorithm=\"Kadane\",method=\"findMaximumSubarray\"} 2\n"));
+        assertTrue(text.contains("algorithm_array_accesses_total{algorithm=\"Kadane\",method=\"findMaximumSubarray\"} 40\n"));
+        assertTrue(text.contains("# TYPE algorithm_gc_time_seconds_total counter\n"));
+        assertTrue(text.contains("algorithm_gc_time_seconds_total{algorithm=\"Kadane\",method=\"findMaximumSubarray\"} 0.25\n"));
+        assertTrue(text.contains("algorithm_latency_seconds{algorithm=\"Kadane\",method=\"findMaximumSubarray\",quantile=\"0.99\"}"));
+        assertTrue(text.contains("algorithm_latency_seconds_count{algorithm=\"Kadane\",method=\"findMaximumSubarray\"} 2\n"));
+        assertEquals("a\\\"b\\\\c\\n", PrometheusTextFormat.escape("a\"b\\c\n"));
+    }
+
+    @Test
+    void testHttpEndpoint() throws Exception {
+        try (PrometheusHttpExporter exporter = new PrometheusHttpExporter(sampleRegistry(), 0)) {
+            URL url = new URL("http://localhost:" + exporter.getPort() + "/metrics");
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            assertEquals(200, connection.getResponseCode());
+            assertEquals(PrometheusTextFormat.CONTENT_TYPE, connection.getContentType());
+            try (InputStream in = connection.getInputStream()) {
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                in.transferTo(body);
+                assertTrue(body.toString(StandardCharsets.UTF_8).contains("algorithm_calls_total"));
+            }
+        }
+    }
+
+    @Test
+    void testFileSinkAppends(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("metrics.csv");
+        MetricsRegistry registry = sampleRegistry();
+        try (FileMetricsSink sink = new FileMetricsSink(registry, file, new CsvMetricsFormat(), 60_000)) {
+            sink.flush();
+            registry.method("Kadane", "findMaximumSubarray").record(2_000, 0, 0, 0);
+        }
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).startsWith("Timestamp,Algorithm,Method,Calls"));
+        assertTrue(lines.get(1).contains(",Kadane,findMaximumSubarray,2,"));
+        assertTrue(lines.get(2).contains(",Kadane,findMaximumSubarray,3,"));
+    }
+}
@@ -0,0 +1,153 @@
+package algorithms.metrics;
+
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.array.KadaneAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class MetricsRegistryTest {
+
+    @Test
+    void testHistogramBucketsBoundValues() {
+        for (long value : new long[]{0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(bucket < LatencyHistogram.BUCKETS);
+            assertTrue(LatencyHistogram.bucketUpperBound(bucket) >= value);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.bucketUpperBound(bucket - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500_000, snapshot.percentile(0.5), 500_000 * 0.07);
+        assertEquals(990_000, snapshot.percentile(0.99), 990_000 * 0.07);
+        assertTrue(snapshot.percentile(0.999) >= snapshot.percentile(0.99));
+        assertTrue(snapshot.getMax() >= 1_000_000);
+        assertEquals(0, new LatencyHistogram().snapshot().percentile(0.5));
+    }
+
+    @Test
+    void testSharedAlgorithmAcrossThreads() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        kadane.getTracker().setMetricsRegistry(registry);
+        int[] array = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        int threads = 4;
+        int callsPerThread = 1000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                // Each worker reports {wrong results, array accesses of its last call}
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long wrong = 0;
+                    for (int i = 0; i < callsPerThread; i++) {
+                        if (kadane.findMaximumSubarray(array).maxSum != 6) wrong++;
+                    }
+                    return new long[]{wrong, kadane.getTracker().getArrayAccesses()};
+                }));
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+
+        List<long[]> outcomes = new ArrayList<>();
+        for (Future<long[]> future : futures) {
+            outcomes.add(future.get(30, TimeUnit.SECONDS));
+        }
+        long perCallAccesses = outcomes.get(0)[1];
+        assertTrue(perCallAccesses > 0);
+        for (long[] outcome : outcomes) {
+            assertEquals(0, outcome[0]);
+            assertEquals(perCallAccesses, outcome[1]);
+        }
+
+        MethodMetrics metrics = registry.method("KadaneAlgorithm", "findMaximumSubarray");
+        long calls = (long) threads * callsPerThread;
+        assertEquals(calls, metrics.getCalls());
+        assertEquals(calls, metrics.getLatency().getCount());
+        assertEquals(calls * perCallAccesses, metrics.getArrayAccesses());
+        assertEquals(1, registry.getMethods().size());
+    }
+
+    @Test
+    void testMajorityOverloadsRecordSeparately() {
+        MetricsRegistry registry = new MetricsRegistry();
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        bm.getTracker().setMetricsRegistry(registry);
+        int[] array = {1, 1, 1, 2, 2, 3};
+        bm.findMajorityElements(array);
+        bm.findMajorityElements(array, 4);
+        bm.findMajorityElements(array, 4);
+
+        assertEquals(1, registry.method("BoyerMooreMajorityVote", "findMajorityElements").getCalls());
+        assertEquals(2, registry.method("BoyerMooreMajorityVote", "findMajorityElementsOverK").getCalls());
+    }
+
+    @Test
+    void testRecordingAllocatesNothing() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters not available");
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(sunBean.isThreadAllocatedMemorySupported(), "Allocation counters not supported");
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        kadane.getTracker().setMetricsRegistry(new MetricsRegistry());
+        KadaneAlgorithm.Bounds bounds = new KadaneAlgorithm.Bounds();
+        int[] array = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        for (int i = 0; i < 20_000; i++) {
+            kadane.findMaximumSubarray(array, bounds);
+        }
+
+        long thread = Thread.currentThread().getId();
+        long before = sunBean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 1000; i++) {
+            kadane.findMaximumSubarray(array, bounds);
+        }
+        long allocated = sunBean.getThreadAllocatedBytes(thread) - before;
+        // Generous for TLAB and counter noise; a key String per call would be tens of kilobytes
+        assertTrue(allocated < 1024, "Allocated " + allocated + " bytes over 1000 recorded calls");
+    }
+
+    @Test
+    void testCountersLevelRecordsWithoutLatency() {
+        MetricsRegistry registry = new MetricsRegistry();
+        PerformanceTracker tracker = new PerformanceTracker("Test", InstrumentationLevel.COUNTERS);
+        tracker.setMetricsRegistry(registry);
+        tracker.beginCall("run");
+        tracker.recordComparisons(5);
+        tracker.stopTimer();
+
+        MethodMetrics metrics = registry.method("Test", "run");
+        assertEquals(1, metrics.getCalls());
+        assertEquals(5, metrics.getComparisons());
+        assertEquals(0, metrics.getLatency().getCount());
+
+        registry.reset();
+        assertEquals(0, metrics.getCalls());
+    }
+}
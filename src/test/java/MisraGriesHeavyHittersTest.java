@@ -0,0 +1,53 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MisraGriesHeavyHittersTest {
+
+    @Test
+    void testMatchesExactFrequencies() {
+        Random random = new Random(13);
+        for (int k : new int[]{2, 3, 10, 100}) {
+            for (int round = 0; round < 30; round++) {
+                int[] array = new int[1 + random.nextInt(3000)];
+                for (int i = 0; i < array.length; i++) {
+                    // Skewed values so some of them clear the n/k bar
+                    array[i] = (int) Math.floor(Math.pow(random.nextDouble(), 4) * 200) - 50;
+                }
+                Map<Integer, Integer> frequencies = new HashMap<>();
+                for (int value : array) frequencies.merge(value, 1, Integer::sum);
+                List<Integer> expected = new ArrayList<>();
+                frequencies.forEach((value, count) -> {
+                    if (count > array.length / k) expected.add(value);
+                });
+                expected.sort(null);
+
+                assertEquals(expected, new MisraGriesHeavyHitters(k).findHeavyHitters(array));
+            }
+        }
+    }
+
+    @Test
+    void testCandidatesStayWithinKMinusOne() {
+        MisraGriesHeavyHitters heavyHitters = new MisraGriesHeavyHitters(10);
+        for (int i = 0; i < 100_000; i++) {
+            heavyHitters.accept(i);
+        }
+        assertTrue(heavyHitters.candidates().length <= 9);
+    }
+
+    @Test
+    void testBoyerMooreDelegatesForK() {
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        int[] array = {1, 1, 1, 2, 2, 2, 3, 3};
+        assertEquals(List.of(1, 2), bm.findMajorityElements(array, 3));
+        assertTrue(new MisraGriesHeavyHitters(4).findHeavyHitters(null).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new MisraGriesHeavyHitters(1));
+    }
+}
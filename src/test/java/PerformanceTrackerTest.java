@@ -0,0 +1,40 @@
+package algorithms.metrics;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PerformanceTrackerTest {
+
+    @Test
+    void testReportsGcDuringCall() {
+        PerformanceTracker tracker = new PerformanceTracker("Test");
+        tracker.beginCall("collect");
+        System.gc();
+        tracker.stopTimer();
+        long collected = tracker.getGcCount();
+        assumeTrue(collected > 0, "System.gc() did not run a collection");
+        assertTrue(tracker.getGcTimeMillis() >= 0);
+
+        // Collections are JVM-wide, so another thread may trigger one; an idle call still
+        // sees no more than a forced full collection
+        tracker.beginCall("idle");
+        tracker.stopTimer();
+        assertTrue(tracker.getGcCount() <= collected,
+                "Idle call saw " + tracker.getGcCount() + " collections, System.gc() " + collected);
+    }
+
+    @Test
+    void testProbeCountersAreCumulative() {
+        long count = ResourceProbe.gcCount();
+        long time = ResourceProbe.gcTimeMillis();
+        System.gc();
+        assertTrue(ResourceProbe.gcCount() >= count);
+        assertTrue(ResourceProbe.gcTimeMillis() >= time);
+        if (ResourceProbe.allocationSupported()) {
+            long before = ResourceProbe.threadAllocatedBytes();
+            int[] block = new int[1 << 16];
+            assertTrue(ResourceProbe.threadAllocatedBytes() - before >= 4L * block.length);
+        }
+    }
+}
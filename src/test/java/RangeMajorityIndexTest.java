@@ -0,0 +1,36 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeMajorityIndexTest {
+
+    @Test
+    void testQueriesMatchBoyerMooreOnSlice() {
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        Random random = new Random(17);
+        int[] array = new int[301];
+        for (int i = 0; i < array.length; i++) {
+            // Long runs of one value give many ranges with a real majority
+            array[i] = (i / 20) % 2 == 0 ? 4 : random.nextInt(6) - 3;
+        }
+        RangeMajorityIndex index = new RangeMajorityIndex(array);
+
+        for (int round = 0; round < 3000; round++) {
+            int from = random.nextInt(array.length);
+            int to = from + random.nextInt(array.length - from);
+            assertEquals(bm.findMajority(Arrays.copyOfRange(array, from, to + 1)), index.findMajority(from, to));
+        }
+    }
+
+    @Test
+    void testCountInRange() {
+        RangeMajorityIndex index = new RangeMajorityIndex(new int[]{-1, 2, -1, 3, -1});
+        assertEquals(3, index.countInRange(-1, 0, 4));
+        assertEquals(1, index.countInRange(-1, 1, 3));
+        assertEquals(0, index.countInRange(7, 0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.findMajority(3, 5));
+    }
+}
@@ -0,0 +1,43 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReductionKernelsTest {
+
+    @Test
+    void testSelectedKernelsMatchScalar() {
+        ReductionKernels scalar = ReductionKernels.scalar();
+        ReductionKernels selected = ReductionKernels.get();
+        Random random = new Random(31);
+        for (int round = 0; round < 500; round++) {
+            int[] array = new int[random.nextInt(200)];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt(10) == 0 ? -random.nextInt(5) : random.nextInt(Integer.MAX_VALUE);
+            }
+            if (array.length > 0 && random.nextBoolean()) {
+                array[random.nextInt(array.length)] = 3;
+            }
+            int from = array.length == 0 ? 0 : random.nextInt(array.length);
+            int to = from + random.nextInt(array.length - from + 1);
+
+            assertEquals(scalar.countEquals(array, from, to, 3), selected.countEquals(array, from, to, 3));
+            assertEquals(scalar.countEqualsPair(array, from, to, 3, 0), selected.countEqualsPair(array, from, to, 3, 0));
+            assertEquals(scalar.sum(array, from, to), selected.sum(array, from, to));
+            assertEquals(scalar.firstNegative(array, from, to), selected.firstNegative(array, from, to));
+            assertEquals(scalar.firstNonPositive(array, from, to), selected.firstNonPositive(array, from, to));
+        }
+    }
+
+    @Test
+    void testVectorSelectedWhenModulePresent() {
+        boolean modulePresent = ModuleLayer.boot().findModule(ReductionKernels.VECTOR_MODULE).isPresent();
+        boolean enabled = Boolean.parseBoolean(System.getProperty("algorithms.vector", "true"));
+        if (modulePresent && enabled) {
+            assertTrue(ReductionKernels.isVectorized(), "Vector kernels not loaded: " + ReductionKernels.get().name());
+        } else {
+            assertEquals("scalar", ReductionKernels.get().name());
+        }
+    }
+}
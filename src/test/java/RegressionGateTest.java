@@ -0,0 +1,68 @@
+package algorithms.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RegressionGateTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Map<String, Double> results(Object... entries) {
+        Map<String, Double> results = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i += 2) {
+            results.put((String) entries[i], (Double) entries[i + 1]);
+        }
+        return results;
+    }
+
+    @Test
+    void testPassesWithinTolerance() {
+        Map<String, Double> baseline = results("a", 1000.0, "b", 500.0);
+        Map<String, Double> current = results("a", 950.0, "b", 800.0, "extra", 1.0);
+        assertTrue(RegressionGate.compare(baseline, current, 0.10).isEmpty());
+    }
+
+    @Test
+    void testFailsBeyondTolerance() {
+        Map<String, Double> baseline = results("a", 1000.0, "b", 500.0);
+        Map<String, Double> current = results("a", 890.0, "b", 500.0);
+        List<String> regressions = RegressionGate.compare(baseline, current, 0.10);
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("a:"), regressions.get(0));
+        assertTrue(regressions.get(0).contains("11.0% below baseline"), regressions.get(0));
+    }
+
+    @Test
+    void testMissingBenchmarkFails() {
+        Map<String, Double> baseline = results("a", 1000.0, "b", 500.0);
+        List<String> regressions = RegressionGate.compare(baseline, results("a", 1000.0), 0.10);
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).contains("b: missing"), regressions.get(0));
+    }
+
+    @Test
+    void testReadsResultsFile() throws IOException {
+        Path path = tempDir.resolve("baseline.csv");
+        Files.writeString(path, "Benchmark,OpsPerSecond\n# comment\n\nkadane.uniform, 1234.500\nbm.majority,42\n");
+        assertEquals(results("kadane.uniform", 1234.5, "bm.majority", 42.0), RegressionGate.readResults(path));
+    }
+
+    @Test
+    void testMalformedFileRejected() throws IOException {
+        Path wrongFields = tempDir.resolve("fields.csv");
+        Files.writeString(wrongFields, "Benchmark,OpsPerSecond\nkadane.uniform,1,2\n");
+        assertThrows(IOException.class, () -> RegressionGate.readResults(wrongFields));
+
+        Path notANumber = tempDir.resolve("number.csv");
+        Files.writeString(notANumber, "Benchmark,OpsPerSecond\nkadane.uniform,fast\n");
+        assertThrows(IOException.class, () -> RegressionGate.readResults(notANumber));
+    }
+}
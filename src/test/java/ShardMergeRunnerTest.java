@@ -0,0 +1,81 @@
+package algorithms.cli;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardMergeRunnerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testShardFileOrderDoesNotChangeResult() throws IOException {
+        // Merged right to left, [3, 3] and [2, 2] cancel and 3 would survive instead of 1
+        int[] values = {1, 1, 1, 2, 2, 3, 3};
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int value : values) buffer.putInt(value);
+        Path data = tempDir.resolve("data.bin");
+        Files.write(data, buffer.array());
+
+        long[] cuts = {0, 3, 5, 7};
+        Path[] shards = new Path[3];
+        Path[] counts = new Path[3];
+        PrintStream out = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(captured, true));
+        try {
+            for (int s = 0; s < 3; s++) {
+                shards[s] = tempDir.resolve("shard" + s + ".bin");
+                ShardMergeRunner.summarize(data, cuts[s], cuts[s + 1], shards[s]);
+            }
+            for (int s = 0; s < 3; s++) {
+                counts[s] = tempDir.resolve("counts" + s + ".bin");
+                ShardMergeRunner.verify(data, cuts[s], cuts[s + 1], counts[s],
+                        s % 2 == 0 ? Arrays.asList(shards[2], shards[1], shards[0])
+                                : Arrays.asList(shards[1], shards[0], shards[2]));
+            }
+            ShardMergeRunner.merge(Arrays.asList(counts[1], shards[2], counts[0], shards[1], shards[0], counts[2]));
+        } finally {
+            System.setOut(out);
+        }
+
+        String report = captured.toString();
+        assertTrue(report.contains("Elements: [0, 7) from 3 shards"), report);
+        assertTrue(report.contains("Majority: None"), report);
+        assertTrue(report.contains("n/3 Elements: [1]"), report);
+    }
+
+    @Test
+    void testRejectsShardCountedTwice() throws IOException {
+        int[] values = {5, 5, 6, 6};
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int value : values) buffer.putInt(value);
+        Path data = tempDir.resolve("data.bin");
+        Files.write(data, buffer.array());
+
+        Path left = tempDir.resolve("left.bin");
+        Path right = tempDir.resolve("right.bin");
+        Path counts = tempDir.resolve("counts.bin");
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream(), true));
+        try {
+            ShardMergeRunner.summarize(data, 0, 2, left);
+            ShardMergeRunner.summarize(data, 2, 4, right);
+            ShardMergeRunner.verify(data, 0, 2, counts, Arrays.asList(left, right));
+            // The same counts twice cover [0, 2) twice and [2, 4) never, although the lengths add up
+            assertThrows(IllegalArgumentException.class,
+                    () -> ShardMergeRunner.merge(Arrays.asList(left, right, counts, counts)));
+        } finally {
+            System.setOut(out);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardSummaryTest {
+
+    private static int[] cuts(Random random, int length, int shards) {
+        int[] cuts = new int[shards + 1];
+        cuts[shards] = length;
+        for (int i = 1; i < shards; i++) {
+            cuts[i] = random.nextInt(length + 1);
+        }
+        java.util.Arrays.sort(cuts);
+        return cuts;
+    }
+
+    @Test
+    void testShardedKadaneMatchesSequential() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        Random random = new Random(12);
+        for (int round = 0; round < 200; round++) {
+            int[] array = random.ints(1 + random.nextInt(300), -10, 10).toArray();
+            int[] cuts = cuts(random, array.length, 1 + random.nextInt(6));
+
+            SubarraySummary global = null;
+            for (int s = 0; s + 1 < cuts.length; s++) {
+                if (cuts[s] == cuts[s + 1]) continue;
+                byte[] bytes = SubarraySummary.of(array, cuts[s], cuts[s + 1], cuts[s]).toBytes();
+                assertEquals(SubarraySummary.BYTES, bytes.length);
+                SubarraySummary shard = SubarraySummary.fromBytes(bytes);
+                global = global == null ? shard : global.merge(shard);
+            }
+
+            KadaneAlgorithm.Result expected = kadane.findMaximumSubarray(array);
+            assertEquals(expected.maxSum, global.bestSum);
+            assertEquals(expected.startIndex, global.bestStart);
+            assertEquals(expected.endIndex, global.bestEnd);
+        }
+    }
+
+    @Test
+    void testShardedMajorityMatchesSequential() {
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        Random random = new Random(13);
+        for (int round = 0; round < 300; round++) {
+            int[] array = new int[1 + random.nextInt(300)];
+            int heavy = random.nextInt(4);
+            for (int i = 0; i < array.length; i++) {
+                array[i] = random.nextInt(100) < 30 + 10 * heavy ? heavy : random.nextInt(6);
+            }
+            int[] cuts = cuts(random, array.length, 1 + random.nextInt(6));
+
+            MajorityCandidates candidates = null;
+            for (int s = 0; s + 1 < cuts.length; s++) {
+                MajorityCandidates shard = MajorityCandidates.fromBytes(
+                        MajorityCandidates.of(array, cuts[s], cuts[s + 1], cuts[s]).toBytes());
+                candidates = candidates == null ? shard : candidates.merge(shard);
+            }
+            int[] targets = candidates.targets();
+            MajorityCounts counts = null;
+            for (int s = 0; s + 1 < cuts.length; s++) {
+                MajorityCounts shard = MajorityCounts.fromBytes(
+                        MajorityCounts.of(array, cuts[s], cuts[s + 1], cuts[s], targets).toBytes());
+                counts = counts == null ? shard : counts.merge(shard);
+            }
+
+            assertEquals(array.length, counts.length);
+            assertEquals(bm.findMajority(array), counts.majority());
+            List<Integer> expected = new ArrayList<>(bm.findMajorityElements(array));
+            Collections.sort(expected);
+            assertEquals(expected, counts.majorityElements());
+        }
+    }
+
+    @Test
+    void testRejectsMismatchedInputs() {
+        int[] array = {1, 2, 3, 4};
+        MajorityCounts left = MajorityCounts.of(array, 0, 2, 0, new int[]{1});
+        MajorityCounts right = MajorityCounts.of(array, 2, 4, 2, new int[]{2});
+        assertThrows(IllegalArgumentException.class, () -> left.merge(right));
+        // A shard counted twice is not adjacent to itself, even though the lengths add up
+        MajorityCounts twice = MajorityCounts.of(array, 0, 2, 0, new int[]{1});
+        assertThrows(IllegalArgumentException.class, () -> left.merge(twice));
+        assertThrows(IllegalArgumentException.class, () -> MajorityCandidates.of(array, 2, 4, 2)
+                .merge(MajorityCandidates.of(array, 0, 2, 0)));
+        assertThrows(IllegalArgumentException.class, () -> SubarraySummary.fromBytes(new byte[8]));
+        assertThrows(IllegalArgumentException.class, () -> MajorityCandidates.fromBytes(new byte[3]));
+        assertThrows(IllegalArgumentException.class,
+                () -> SubarraySummary.of(array, 0, 2, 0).merge(SubarraySummary.of(array, 3, 4, 3)));
+    }
+}
@@ -0,0 +1,50 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowMajorityTest {
+
+    @Test
+    void testMatchesBatchVoteOnEveryWindow() {
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        Random random = new Random(5);
+        int windowSize = 7;
+        SlidingWindowMajority sliding = new SlidingWindowMajority(windowSize);
+        int[] stream = new int[2000];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = random.nextInt(3) == 0 ? random.nextInt(40) : random.nextInt(3);
+        }
+
+        for (int i = 0; i < stream.length; i++) {
+            sliding.accept(stream[i]);
+            int[] window = Arrays.copyOfRange(stream, Math.max(0, i - windowSize + 1), i + 1);
+            Integer expected = bm.findMajority(window);
+            assertEquals(expected != null, sliding.hasMajority());
+            if (expected != null) {
+                assertEquals(expected.intValue(), sliding.getMajority());
+            }
+        }
+    }
+
+    @Test
+    void testNoMajorityThrows() {
+        SlidingWindowMajority sliding = new SlidingWindowMajority(4);
+        sliding.accept(new int[]{1, 2, 3, 4});
+        assertFalse(sliding.hasMajority());
+        assertThrows(IllegalStateException.class, sliding::getMajority);
+    }
+
+    @Test
+    void testUnboundedCandidate() {
+        StreamingMajorityVote streaming = new StreamingMajorityVote();
+        streaming.accept(new int[]{2, 2, 1, 2});
+        streaming.accept(3);
+        streaming.accept(new int[]{2, 2});
+        assertTrue(streaming.hasCandidate());
+        assertEquals(2, streaming.getCandidate());
+        assertEquals(7, streaming.getSeen());
+    }
+}
@@ -0,0 +1,72 @@
+package algorithms.array;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKMaximumSubarraysTest {
+
+    @Test
+    void testMatchesBruteForce() {
+        Random random = new Random(17);
+        for (int round = 0; round < 200; round++) {
+            int[] array = random.ints(1 + random.nextInt(40), -20, 20).toArray();
+            List<Long> all = new ArrayList<>();
+            for (int i = 0; i < array.length; i++) {
+                long sum = 0;
+                for (int j = i; j < array.length; j++) {
+                    sum += array[j];
+                    all.add(sum);
+                }
+            }
+            all.sort(Collections.reverseOrder());
+
+            int k = 1 + random.nextInt(all.size() + 5);
+            TopKMaximumSubarrays.Result result = new TopKMaximumSubarrays(k).find(array);
+            assertEquals(Math.min(k, all.size()), result.size());
+
+            Set<Long> ranges = new HashSet<>();
+            for (int r = 0; r < result.size(); r++) {
+                assertEquals(all.get(r).longValue(), result.getSum(r));
+                long sum = 0;
+                for (int i = result.getStartIndex(r); i <= result.getEndIndex(r); i++) {
+                    sum += array[i];
+                }
+                assertEquals(result.getSum(r), sum);
+                assertTrue(ranges.add(((long) result.getStartIndex(r) << 32) | result.getEndIndex(r)));
+            }
+        }
+    }
+
+    @Test
+    void testFirstResultMatchesKadane() {
+        KadaneAlgorithm kadane = new KadaneAlgorithm();
+        Random random = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            int[] array = random.ints(1 + random.nextInt(50), -3, 4).toArray();
+            KadaneAlgorithm.Result expected = kadane.findMaximumSubarray(array);
+            TopKMaximumSubarrays.Result top = new TopKMaximumSubarrays(1).find(array);
+            assertEquals(expected.maxSum, top.getSum(0));
+            assertEquals(expected.startIndex, top.getStartIndex(0));
+            assertEquals(expected.endIndex, top.getEndIndex(0));
+        }
+    }
+
+    @Test
+    void testEdgeCases() {
+        assertEquals(0, new TopKMaximumSubarrays(5).find(new int[0]).size());
+        assertEquals(0, new TopKMaximumSubarrays(5).find(null).size());
+        TopKMaximumSubarrays.Result single = new TopKMaximumSubarrays(5).find(new int[]{-7});
+        assertEquals(1, single.size());
+        assertEquals(-7, single.getSum(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> single.getSum(1));
+        assertThrows(IllegalArgumentException.class, () -> new TopKMaximumSubarrays(0));
+    }
+}
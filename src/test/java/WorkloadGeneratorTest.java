@@ -0,0 +1,55 @@
+package algorithms.workload;
+
+import algorithms.array.BoyerMooreMajorityVote;
+import algorithms.array.KadaneAlgorithm;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkloadGeneratorTest {
+
+    @Test
+    void testSameSeedSameArray() {
+        for (WorkloadGenerator.Distribution distribution : WorkloadGenerator.Distribution.values()) {
+            int[] first = new WorkloadGenerator(7).generate(distribution, 200_000);
+            int[] second = new WorkloadGenerator(7).generate(distribution, 200_000);
+            assertArrayEquals(first, second, distribution.name());
+        }
+    }
+
+    @Test
+    void testMajorityGuarantees() {
+        WorkloadGenerator generator = new WorkloadGenerator(3);
+        BoyerMooreMajorityVote bm = new BoyerMooreMajorityVote();
+        for (int size : new int[]{2, 3, 10, 1001}) {
+            assertNotNull(bm.findMajority(generator.generate(WorkloadGenerator.Distribution.MAJORITY, size)));
+            assertNotNull(bm.findMajority(generator.generate(WorkloadGenerator.Distribution.ADVERSARIAL_MAJORITY, size)));
+            assertNull(bm.findMajority(generator.generate(WorkloadGenerator.Distribution.NO_MAJORITY, size)));
+        }
+    }
+
+    @Test
+    void testMajorityCountIsExact() {
+        for (int size : new int[]{1, 2, 3, 10, 1001, 200_000}) {
+            int[] array = new WorkloadGenerator(11).generate(WorkloadGenerator.Distribution.MAJORITY, size);
+            java.util.Map<Integer, Integer> counts = new java.util.HashMap<>();
+            for (int value : array) {
+                counts.merge(value, 1, Integer::sum);
+                assertTrue(value >= 0 && value < 100);
+            }
+            int majority = new BoyerMooreMajorityVote().findMajority(array);
+            assertEquals(size / 2 + 1, counts.get(majority), "size " + size);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadGenerator(1).withMajority(10, 1));
+    }
+
+    @Test
+    void testSignDistributions() {
+        WorkloadGenerator generator = new WorkloadGenerator(5);
+        for (int value : generator.generate(WorkloadGenerator.Distribution.ALL_NEGATIVE, 10_000)) assertTrue(value < 0);
+        for (int value : generator.generate(WorkloadGenerator.Distribution.ALL_POSITIVE, 10_000)) assertTrue(value > 0);
+
+        int[] runs = generator.generate(WorkloadGenerator.Distribution.ALTERNATING_RUNS, 5 * WorkloadGenerator.RUN_LENGTH);
+        KadaneAlgorithm.Result result = new KadaneAlgorithm().findMaximumSubarray(runs);
+        assertTrue(result.endIndex - result.startIndex + 1 >= WorkloadGenerator.RUN_LENGTH);
+    }
+}